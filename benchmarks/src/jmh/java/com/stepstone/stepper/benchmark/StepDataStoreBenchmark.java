@@ -0,0 +1,79 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.benchmark;
+
+import com.stepstone.stepper.data.StepDataKey;
+import com.stepstone.stepper.data.StepDataStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link StepDataStore} reads and writes, including recomputing derived values.
+ */
+@State(Scope.Thread)
+public class StepDataStoreBenchmark {
+
+    private static final StepDataKey<String> FIRST_NAME = new StepDataKey<>("firstName");
+
+    private static final StepDataKey<String> LAST_NAME = new StepDataKey<>("lastName");
+
+    private static final StepDataKey<String> FULL_NAME = new StepDataKey<>("fullName");
+
+    private static final String[] FIRST_NAMES = {"Anna", "Piotr"};
+
+    private StepDataStore mStore;
+
+    private int mIteration;
+
+    @Setup
+    public void setUp() {
+        mStore = new StepDataStore();
+        mStore.put(FIRST_NAME, FIRST_NAMES[0]);
+        mStore.put(LAST_NAME, "Kowalski");
+        mStore.setDerivation(FULL_NAME, new StepDataStore.Derivation<String>() {
+            @Override
+            public String compute(StepDataStore.Reader reader) {
+                return reader.get(FIRST_NAME) + " " + reader.get(LAST_NAME);
+            }
+        });
+    }
+
+    /**
+     * Reads a derived value whose dependencies did not change.
+     */
+    @Benchmark
+    public String getCachedDerivedValue() {
+        return mStore.get(FULL_NAME);
+    }
+
+    /**
+     * Changes a dependency of a derived value and reads it, which recomputes it.
+     */
+    @Benchmark
+    public String putAndRecompute() {
+        mStore.put(FIRST_NAME, FIRST_NAMES[mIteration++ & 1]);
+        return mStore.get(FULL_NAME);
+    }
+
+    @Benchmark
+    public StepDataStore.Snapshot snapshot() {
+        return mStore.snapshot();
+    }
+}
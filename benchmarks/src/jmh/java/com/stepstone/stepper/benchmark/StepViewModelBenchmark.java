@@ -0,0 +1,52 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.benchmark;
+
+import com.stepstone.stepper.viewmodel.StepViewModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures building a {@link StepViewModel} from plain texts.
+ * Setters taking string resource IDs need a {@link android.content.Context} and are not covered.
+ */
+@State(Scope.Thread)
+public class StepViewModelBenchmark {
+
+    private static final String TITLE = "Personal details";
+
+    private static final String SUBTITLE = "Optional";
+
+    private static final String END_BUTTON_LABEL = "Next";
+
+    @Benchmark
+    public StepViewModel createDefault() {
+        return new StepViewModel.Builder(null).create();
+    }
+
+    @Benchmark
+    public StepViewModel createWithTexts() {
+        return new StepViewModel.Builder(null)
+                .setTitle(TITLE)
+                .setSubtitle(SUBTITLE)
+                .setEndButtonLabel(END_BUTTON_LABEL)
+                .setBackButtonVisible(false)
+                .create();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.benchmark;
+
+import com.stepstone.stepper.internal.feedback.LazyStepperFeedbackType;
+import com.stepstone.stepper.internal.feedback.StepperFeedbackType;
+import com.stepstone.stepper.internal.feedback.StepperFeedbackTypeFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures decoding of the stepper feedback type mask in {@link LazyStepperFeedbackType#setFeedbackTypeMask(int)}
+ * and creation of a single feedback type in {@link StepperFeedbackTypeFactory#createComponent(int, com.stepstone.stepper.StepperLayout)}.
+ * Only the DISABLED_BOTTOM_NAVIGATION feedback type is created as the other ones look up views in the layout,
+ * which is not available on the JVM. Changing the mask does not create any feedback types until the progress is shown.
+ */
+@State(Scope.Thread)
+public class StepperFeedbackTypeFactoryBenchmark {
+
+    private static final int ALL_FEEDBACK_TYPES = StepperFeedbackType.TABS
+            | StepperFeedbackType.CONTENT_PROGRESS
+            | StepperFeedbackType.CONTENT_FADE
+            | StepperFeedbackType.CONTENT_OVERLAY
+            | StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION
+            | StepperFeedbackType.DISABLED_CONTENT_INTERACTION;
+
+    private LazyStepperFeedbackType mFeedbackType;
+
+    private boolean mAllFeedbackTypesSelected;
+
+    @Setup
+    public void setUp() {
+        mFeedbackType = new LazyStepperFeedbackType(null, StepperFeedbackType.NONE);
+    }
+
+    @Benchmark
+    public LazyStepperFeedbackType setFeedbackTypeMask() {
+        mAllFeedbackTypesSelected = !mAllFeedbackTypesSelected;
+        mFeedbackType.setFeedbackTypeMask(mAllFeedbackTypesSelected ? ALL_FEEDBACK_TYPES : StepperFeedbackType.NONE);
+        return mFeedbackType;
+    }
+
+    @Benchmark
+    public StepperFeedbackType createComponent() {
+        return StepperFeedbackTypeFactory.createComponent(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION, null);
+    }
+}
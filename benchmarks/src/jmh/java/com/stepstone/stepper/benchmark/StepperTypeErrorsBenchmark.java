@@ -0,0 +1,65 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.benchmark;
+
+import com.stepstone.stepper.VerificationError;
+import com.stepstone.stepper.internal.type.AbstractStepperType;
+import com.stepstone.stepper.internal.type.NoneStepperType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the step error map operations of {@link AbstractStepperType}.
+ */
+@State(Scope.Thread)
+public class StepperTypeErrorsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int stepCount;
+
+    private AbstractStepperType mStepperType;
+
+    private VerificationError mError;
+
+    @Setup
+    public void setUp() {
+        mStepperType = new NoneStepperType(null);
+        mError = new VerificationError("error");
+    }
+
+    /**
+     * Sets an error on every other step, reads all of them back and clears them as when a new adapter is set.
+     */
+    @Benchmark
+    public int setGetAndClearErrors() {
+        for (int i = 0; i < stepCount; i++) {
+            mStepperType.setError(i, i % 2 == 0 ? mError : null);
+        }
+        int errorCount = 0;
+        for (int i = 0; i < stepCount; i++) {
+            if (mStepperType.getErrorAtPosition(i) != null) {
+                errorCount++;
+            }
+        }
+        mStepperType.onNewAdapter(null);
+        return errorCount;
+    }
+}
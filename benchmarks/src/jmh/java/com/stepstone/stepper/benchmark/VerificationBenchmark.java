@@ -0,0 +1,66 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.benchmark;
+
+import com.stepstone.stepper.VerificationError;
+import com.stepstone.stepper.internal.verification.VerificationResultCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures creating verification errors and looking up cached verification results.
+ */
+@State(Scope.Thread)
+public class VerificationBenchmark {
+
+    private static final int STEP_COUNT = 16;
+
+    private VerificationResultCache mCache;
+
+    private VerificationError mError;
+
+    private long mFingerprint;
+
+    @Setup
+    public void setUp() {
+        mCache = new VerificationResultCache();
+        mError = new VerificationError("error");
+        for (int i = 0; i < STEP_COUNT; i++) {
+            mCache.put(i, i, i % 2 == 0 ? mError : null);
+        }
+    }
+
+    @Benchmark
+    public VerificationError createPlainError() {
+        return new VerificationError("error");
+    }
+
+    @Benchmark
+    public VerificationError cacheHit() {
+        final int stepPosition = (int) (mFingerprint++ % STEP_COUNT);
+        return mCache.contains(stepPosition, stepPosition) ? mCache.get(stepPosition) : null;
+    }
+
+    @Benchmark
+    public boolean cacheMiss() {
+        final int stepPosition = (int) (mFingerprint % STEP_COUNT);
+        return mCache.contains(stepPosition, ++mFingerprint + STEP_COUNT);
+    }
+}
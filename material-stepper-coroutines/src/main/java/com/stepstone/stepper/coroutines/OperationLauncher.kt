@@ -0,0 +1,58 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.coroutines
+
+import com.stepstone.stepper.StepperLayout
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.launch
+
+/**
+ * Runs [operation] in a coroutine bound to this callback i.e. cancelled together with the callback.
+ * The progress indicator is shown for the duration of the operation if [progressMessage] is not null.
+ *
+ * @param progressMessage message to show while the operation is in progress, null if progress should not be shown
+ * @param operation operation to run, should return true if the navigation should proceed
+ * @param onFinished called on successful completion of the operation if the navigation should proceed
+ * @return job of the operation
+ */
+internal fun StepperLayout.AbstractOnButtonClickedCallback.launchOperation(
+        progressMessage: String?,
+        operation: suspend () -> Boolean,
+        onFinished: () -> Unit): Job {
+    val callback = this
+    val stepperLayout = callback.stepperLayout
+    if (progressMessage != null) {
+        stepperLayout.showProgress(progressMessage)
+    }
+
+    val job = CoroutineScope(StepperDispatchers.mainOrDefault).launch {
+        val proceed = try {
+            operation()
+        } finally {
+            // a cancelled callback hides the progress itself, it might be already shown by another operation
+            if (progressMessage != null && !callback.isCancelled) {
+                stepperLayout.hideProgress()
+            }
+        }
+        if (proceed) {
+            onFinished()
+        }
+    }
+    callback.addOnCancelListener { job.cancel() }
+    return job
+}
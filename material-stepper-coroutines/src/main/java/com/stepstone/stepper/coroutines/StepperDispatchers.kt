@@ -0,0 +1,47 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.coroutines
+
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+
+/**
+ * Dispatchers used to run the operations of [SuspendBlockingStep]s.
+ * Can be replaced in tests e.g. with [Dispatchers.Unconfined] to run the operations synchronously.
+ */
+object StepperDispatchers {
+
+    /**
+     * Dispatcher on which [SuspendBlockingStep] operations are started, [Dispatchers.Main] if null.
+     * [Dispatchers.Main] is only looked up when an operation is started, so tests which replace it
+     * do not need the Android main looper.
+     */
+    @Volatile
+    @JvmStatic
+    var main: CoroutineDispatcher? = null
+
+    internal val mainOrDefault: CoroutineDispatcher
+        get() = main ?: Dispatchers.Main
+
+    /**
+     * Restores the default dispatchers.
+     */
+    @JvmStatic
+    fun reset() {
+        main = null
+    }
+}
@@ -0,0 +1,73 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.coroutines
+
+import android.support.annotation.UiThread
+import com.stepstone.stepper.BlockingStep
+import com.stepstone.stepper.StepperLayout
+
+/**
+ * A [BlockingStep] whose operations performed before leaving the step are `suspend` functions.
+ * Each operation runs in its own coroutine started on [StepperDispatchers.main] which gets cancelled
+ * when [StepperLayout] cancels the navigation i.e. when the user navigates back, the adapter changes
+ * or the layout gets detached from the window.
+ * While an operation is running [StepperLayout.showProgress] is shown with [progressMessage] unless it is null.
+ */
+interface SuspendBlockingStep : BlockingStep {
+
+    /**
+     * Message shown while one of the operations is running, null if the progress should not be shown.
+     */
+    val progressMessage: String?
+        get() = null
+
+    /**
+     * Performs the operations needed before going to the next step e.g. a network call.
+     *
+     * @return true to go to the next step, false to stay on this step
+     */
+    suspend fun onNext(): Boolean = true
+
+    /**
+     * Performs the operations needed before completing the flow e.g. a network call.
+     *
+     * @return true to complete the flow, false to stay on this step
+     */
+    suspend fun onComplete(): Boolean = true
+
+    /**
+     * Performs the operations needed before going to the previous step.
+     *
+     * @return true to go to the previous step, false to stay on this step
+     */
+    suspend fun onBack(): Boolean = true
+
+    @UiThread
+    override fun onNextClicked(callback: StepperLayout.OnNextClickedCallback) {
+        callback.launchOperation(progressMessage, { onNext() }, { callback.goToNextStep() })
+    }
+
+    @UiThread
+    override fun onCompleteClicked(callback: StepperLayout.OnCompleteClickedCallback) {
+        callback.launchOperation(progressMessage, { onComplete() }, { callback.complete() })
+    }
+
+    @UiThread
+    override fun onBackClicked(callback: StepperLayout.OnBackClickedCallback) {
+        callback.launchOperation(progressMessage, { onBack() }, { callback.goToPrevStep() })
+    }
+}
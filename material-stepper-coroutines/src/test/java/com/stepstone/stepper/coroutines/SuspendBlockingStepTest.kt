@@ -0,0 +1,122 @@
+package com.stepstone.stepper.coroutines
+
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.argumentCaptor
+import com.nhaarman.mockito_kotlin.doReturn
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.stepstone.stepper.StepperLayout
+import com.stepstone.stepper.VerificationError
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.Dispatchers
+import org.junit.After
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+
+class SuspendBlockingStepTest {
+
+    companion object {
+        const val PROGRESS_MESSAGE = "Loading..."
+    }
+
+    val mockStepperLayout: StepperLayout = mock()
+
+    val mockNextCallback: StepperLayout.OnNextClickedCallback = mock {
+        on { stepperLayout } doReturn mockStepperLayout
+    }
+
+    val mockCompleteCallback: StepperLayout.OnCompleteClickedCallback = mock {
+        on { stepperLayout } doReturn mockStepperLayout
+    }
+
+    val result = CompletableDeferred<Boolean>()
+
+    var operationFinished = false
+
+    val step = object : SuspendBlockingStep {
+
+        override val progressMessage: String?
+            get() = PROGRESS_MESSAGE
+
+        override suspend fun onNext(): Boolean {
+            try {
+                return result.await()
+            } finally {
+                operationFinished = true
+            }
+        }
+
+        override fun verifyStep(): VerificationError? = null
+
+        override fun onSelected() {}
+
+        override fun onError(error: VerificationError) {}
+    }
+
+    @Before
+    fun setUp() {
+        StepperDispatchers.main = Dispatchers.Unconfined
+    }
+
+    @After
+    fun tearDown() {
+        StepperDispatchers.reset()
+    }
+
+    @Test
+    fun `Should show progress and go to the next step when the operation succeeds`() {
+        //given
+        step.onNextClicked(mockNextCallback)
+
+        //when
+        result.complete(true)
+
+        //then
+        verify(mockStepperLayout).showProgress(PROGRESS_MESSAGE)
+        verify(mockStepperLayout).hideProgress()
+        verify(mockNextCallback).goToNextStep()
+    }
+
+    @Test
+    fun `Should stay on the step when the operation returns false`() {
+        //given
+        step.onNextClicked(mockNextCallback)
+
+        //when
+        result.complete(false)
+
+        //then
+        verify(mockStepperLayout).hideProgress()
+        verify(mockNextCallback, never()).goToNextStep()
+    }
+
+    @Test
+    fun `Should cancel the operation when the callback gets cancelled`() {
+        //given
+        step.onNextClicked(mockNextCallback)
+        val listenerCaptor = argumentCaptor<StepperLayout.AbstractOnButtonClickedCallback.OnCancelListener>()
+        verify(mockNextCallback).addOnCancelListener(listenerCaptor.capture())
+        assertFalse(operationFinished)
+
+        //when
+        listenerCaptor.firstValue.onCancelled()
+        result.complete(true)
+
+        //then
+        assertTrue(operationFinished)
+        verify(mockNextCallback, never()).goToNextStep()
+    }
+
+    @Test
+    fun `Should complete the flow immediately by default`() {
+        //when
+        step.onCompleteClicked(mockCompleteCallback)
+
+        //then
+        verify(mockCompleteCallback).complete()
+        verify(mockCompleteCallback).addOnCancelListener(any())
+    }
+}
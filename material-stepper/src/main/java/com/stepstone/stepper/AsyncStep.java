@@ -0,0 +1,43 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+/**
+ * A {@link Step} which verifies itself on a background thread, e.g. if the verification needs to query a database.<br>
+ * When the Next/Complete button is clicked {@link StepperLayout} calls {@link #verifyStepAsync()} instead of {@link #verifyStep()}
+ * and shows the progress with the selected stepper feedback types until the result is delivered back on the main thread.
+ * The verification is cancelled if the user goes back, the adapter changes or the stepper layout gets detached from the window.
+ *
+ * @see StepperLayout#setAsyncVerificationExecutor(java.util.concurrent.Executor)
+ * @see StepperLayout#setAsyncVerificationTimeout(long)
+ */
+public interface AsyncStep extends Step {
+
+    /**
+     * Checks if the stepper can go to the next step after this step. This is called on a background thread.<br>
+     * The calling thread gets interrupted if the verification is cancelled.
+     *
+     * @return the cause of the validation failure or <i>null</i> if step was validated successfully
+     */
+    @WorkerThread
+    @Nullable
+    VerificationError verifyStepAsync();
+
+}
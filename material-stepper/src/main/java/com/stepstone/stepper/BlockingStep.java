@@ -22,7 +22,10 @@ import android.support.annotation.UiThread;
 
 /**
  * A {@link Step} which can block clicking on the next button/tab
- * and perform some operations before switching to the next step.
+ * and perform some operations before switching to the next step.<br>
+ * The callbacks passed to this step are cancelled when the user navigates back, the adapter changes
+ * or {@link StepperLayout} gets detached from the window. Long running operations should stop once that happens,
+ * see {@link StepperLayout.AbstractOnButtonClickedCallback#addOnCancelListener(StepperLayout.AbstractOnButtonClickedCallback.OnCancelListener)}.
  */
 
 public interface BlockingStep extends Step {
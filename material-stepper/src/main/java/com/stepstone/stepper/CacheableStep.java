@@ -0,0 +1,40 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.UiThread;
+
+/**
+ * A {@link Step} whose verification result can be cached by {@link StepperLayout}.<br>
+ * The step exposes a cheap fingerprint of its input, e.g. a version counter incremented on every change or a hash of the entered data.
+ * As long as the fingerprint does not change the last verification result is reused instead of verifying the step again.
+ *
+ * @see StepperLayout#getVerificationCacheHitCount()
+ * @see StepperLayout#getVerificationCacheMissCount()
+ */
+public interface CacheableStep extends Step {
+
+    /**
+     * Returns the fingerprint of the current input of this step.
+     * It must change whenever the input changes in a way which might affect the verification result.
+     *
+     * @return fingerprint of the current input
+     */
+    @UiThread
+    long getInputFingerprint();
+
+}
@@ -0,0 +1,47 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.UiThread;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link Step} which can start loading its data before it gets selected.<br>
+ * {@link StepperLayout} notifies the step when it becomes a neighbor of the current step,
+ * so that slow lookups can run while the user is still on the current step.
+ */
+public interface PrefetchingStep extends Step {
+
+    /**
+     * Called when this step becomes a neighbor of the current step.
+     * This can be called again after the step was selected and became a neighbor once more.
+     *
+     * @param executor executor which can be used to load the data in the background
+     */
+    @UiThread
+    void onPrefetch(@NonNull Executor executor);
+
+    /**
+     * Called when this step is no longer a neighbor of the current step and it was not selected,
+     * so that the prefetching started in {@link #onPrefetch(Executor)} can be cancelled.
+     */
+    @UiThread
+    void onPrefetchCancelled();
+
+}
@@ -0,0 +1,121 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.IntRange;
+import android.support.annotation.RestrictTo;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * A batch of funnel events delivered to {@link StepperEventSink}.
+ * The batch is reused for the next delivery so the events must be copied if they are needed later.
+ */
+public final class StepperEventBatch {
+
+    private final int[] mTypes;
+
+    private final int[] mStepPositions;
+
+    private final long[] mTimestamps;
+
+    private final int[] mValues;
+
+    private int mSize;
+
+    private int mDroppedEventCount;
+
+    @RestrictTo(LIBRARY)
+    public StepperEventBatch(int capacity) {
+        this.mTypes = new int[capacity];
+        this.mStepPositions = new int[capacity];
+        this.mTimestamps = new long[capacity];
+        this.mValues = new int[capacity];
+    }
+
+    /**
+     * @return number of events in the batch
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * @param index index of the event
+     * @return one of the <code>EVENT_*</code> constants from {@link StepperEventSink}
+     */
+    public int getType(@IntRange(from = 0) int index) {
+        checkIndex(index);
+        return mTypes[index];
+    }
+
+    public int getStepPosition(@IntRange(from = 0) int index) {
+        checkIndex(index);
+        return mStepPositions[index];
+    }
+
+    /**
+     * @param index index of the event
+     * @return time of the event in milliseconds since boot, see {@link android.os.SystemClock#elapsedRealtime()}
+     */
+    public long getTimestamp(@IntRange(from = 0) int index) {
+        checkIndex(index);
+        return mTimestamps[index];
+    }
+
+    /**
+     * @param index index of the event
+     * @return the error code for {@link StepperEventSink#EVENT_VERIFICATION_FAILED}, 0 for other events
+     */
+    public int getValue(@IntRange(from = 0) int index) {
+        checkIndex(index);
+        return mValues[index];
+    }
+
+    /**
+     * @return number of events which were overwritten in the buffer before being delivered since the previous batch
+     */
+    public int getDroppedEventCount() {
+        return mDroppedEventCount;
+    }
+
+    @RestrictTo(LIBRARY)
+    public void clear() {
+        mSize = 0;
+        mDroppedEventCount = 0;
+    }
+
+    @RestrictTo(LIBRARY)
+    public void add(int type, int stepPosition, long timestamp, int value) {
+        mTypes[mSize] = type;
+        mStepPositions[mSize] = stepPosition;
+        mTimestamps[mSize] = timestamp;
+        mValues[mSize] = value;
+        mSize++;
+    }
+
+    @RestrictTo(LIBRARY)
+    public void setDroppedEventCount(int droppedEventCount) {
+        this.mDroppedEventCount = droppedEventCount;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + mSize);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.WorkerThread;
+
+/**
+ * Receives the funnel events recorded by {@link StepperLayout}, e.g. to compute per-step dwell time, error counts and drop-off points.<br>
+ * Events are kept in a fixed-size buffer of primitives filled without allocating and delivered in batches on a background thread.
+ *
+ * @see StepperLayout#setEventSink(StepperEventSink)
+ */
+public interface StepperEventSink {
+
+    /**
+     * A step got selected.
+     */
+    int EVENT_STEP_ENTERED = 0;
+
+    /**
+     * A step is no longer selected.
+     */
+    int EVENT_STEP_LEFT = 1;
+
+    /**
+     * A step failed the verification, the value of the event is the error code, see {@link VerificationError#getCode()}.
+     */
+    int EVENT_VERIFICATION_FAILED = 2;
+
+    /**
+     * The flow was completed from the step, see {@link StepperLayout.StepperListener#onCompleted(android.view.View)}.
+     */
+    int EVENT_COMPLETED = 3;
+
+    /**
+     * The user went back from the first step, see {@link StepperLayout.StepperListener#onReturn()}.
+     */
+    int EVENT_RETURNED = 4;
+
+    /**
+     * Called with the next batch of events. Batches are delivered one at a time.
+     *
+     * @param batch events in the order they were recorded, valid only until this method returns
+     */
+    @WorkerThread
+    void onEvents(@NonNull StepperEventBatch batch);
+
+}
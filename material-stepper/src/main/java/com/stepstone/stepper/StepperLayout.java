@@ -18,13 +18,15 @@ package com.stepstone.stepper;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
-import android.content.res.TypedArray;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.os.Parcel;
+import android.os.Parcelable;
 import android.support.annotation.AttrRes;
 import android.support.annotation.ColorInt;
 import android.support.annotation.DrawableRes;
 import android.support.annotation.FloatRange;
+import android.support.annotation.IntDef;
 import android.support.annotation.IntRange;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -32,11 +34,13 @@ import android.support.annotation.StyleRes;
 import android.support.annotation.UiThread;
 import android.support.v4.content.ContextCompat;
 import android.support.v4.content.res.ResourcesCompat;
+import android.support.v4.view.ViewCompat;
 import android.support.v4.view.ViewPager;
 import android.support.v7.view.ContextThemeWrapper;
 import android.support.v7.widget.LinearLayoutCompat;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
@@ -47,18 +51,37 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import com.stepstone.stepper.adapter.StepAdapter;
+import com.stepstone.stepper.data.StepDataStore;
+import com.stepstone.stepper.internal.feedback.LazyStepperFeedbackType;
 import com.stepstone.stepper.internal.feedback.StepperFeedbackType;
-import com.stepstone.stepper.internal.feedback.StepperFeedbackTypeFactory;
+import com.stepstone.stepper.internal.metrics.NavigationMetricsRecorder;
+import com.stepstone.stepper.internal.metrics.StepperEventRecorder;
+import com.stepstone.stepper.internal.metrics.TransitionFrameMonitor;
 import com.stepstone.stepper.internal.type.AbstractStepperType;
 import com.stepstone.stepper.internal.type.StepperTypeFactory;
 import com.stepstone.stepper.internal.util.AnimationUtil;
+import com.stepstone.stepper.internal.util.ObjectsCompat;
+import com.stepstone.stepper.internal.util.StepperExecutors;
 import com.stepstone.stepper.internal.util.TintUtil;
+import com.stepstone.stepper.internal.util.TraceUtil;
 import com.stepstone.stepper.internal.widget.ColorableProgressBar;
 import com.stepstone.stepper.internal.widget.DottedProgressBar;
 import com.stepstone.stepper.internal.widget.RightNavigationButton;
+import com.stepstone.stepper.internal.widget.StepperLayoutViews;
+import com.stepstone.stepper.internal.verification.AllStepsValidator;
+import com.stepstone.stepper.internal.verification.AsyncStepVerifier;
+import com.stepstone.stepper.internal.verification.VerificationResultCache;
 import com.stepstone.stepper.internal.widget.TabsContainer;
 import com.stepstone.stepper.viewmodel.StepViewModel;
 
+import java.lang.annotation.Retention;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
 /**
  * Stepper widget implemented according to the <a href="https://www.google.com/design/spec/components/steppers.html">Material documentation</a>.<br>
  * It allows for setting three types of steppers:<br>
@@ -66,12 +89,60 @@ import com.stepstone.stepper.viewmodel.StepViewModel;
  * - mobile progress bar stepper,<br>
  * - horizontal stepper with tabs.<br>
  * Include this stepper in the layout XML file and choose a stepper type with <code>ms_stepperType</code>.<br>
- * Check out <code>values/attrs.xml - StepperLayout</code> for a complete list of customisable properties.
+ * Check out <code>values/attrs.xml - StepperLayout</code> for a complete list of customisable properties.<br>
+ * Steppers created dynamically can be built from code with a {@link Builder} instead.
  */
 public class StepperLayout extends LinearLayout implements TabsContainer.TabItemListener {
 
     public static final int DEFAULT_TAB_DIVIDER_WIDTH = -1;
 
+    /**
+     * Default time to wait after the last input change before validating the step when live validation is enabled.
+     */
+    public static final long DEFAULT_LIVE_VALIDATION_DEBOUNCE_MILLIS = 300L;
+
+    @Retention(SOURCE)
+    @IntDef({NAVIGATION_POLICY_ALLOW, NAVIGATION_POLICY_DROP, NAVIGATION_POLICY_QUEUE, NAVIGATION_POLICY_LATEST})
+    public @interface NavigationPolicy {
+    }
+
+    /**
+     * Every navigation request is handled immediately, even if the previous one has not finished yet. This is the default.
+     */
+    public static final int NAVIGATION_POLICY_ALLOW = 0;
+
+    /**
+     * Navigation requests made while another one is in flight are dropped.
+     */
+    public static final int NAVIGATION_POLICY_DROP = 1;
+
+    /**
+     * Navigation requests made while another one is in flight are queued and handled in order once it finishes.
+     */
+    public static final int NAVIGATION_POLICY_QUEUE = 2;
+
+    /**
+     * Only the latest navigation request made while another one is in flight is handled once it finishes.
+     */
+    public static final int NAVIGATION_POLICY_LATEST = 3;
+
+    private static final int NAVIGATION_REQUEST_NEXT = StepperMetricsListener.NAVIGATION_NEXT;
+
+    private static final int NAVIGATION_REQUEST_COMPLETE = StepperMetricsListener.NAVIGATION_COMPLETE;
+
+    private static final int NAVIGATION_REQUEST_BACK = StepperMetricsListener.NAVIGATION_BACK;
+
+    private static final String TRACE_SET_ADAPTER = "StepperLayout#setAdapter";
+
+    private static final String TRACE_ON_UPDATE = "StepperLayout#onUpdate";
+
+    private static final String TRACE_VERIFY_CURRENT_STEP = "StepperLayout#verifyCurrentStep";
+
+    /**
+     * Number of ints saved for each step error: step position, code, field ID, severity and message resource ID.
+     */
+    private static final int SAVED_ERROR_DATA_SIZE = 5;
+
     /**
      * A listener for events of {@link StepperLayout}.
      */
@@ -123,18 +194,228 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         };
     }
 
+    /**
+     * A listener for the result of {@link #validateAll(ValidationListener)}.
+     */
+    public interface ValidationListener {
+
+        /**
+         * Called when all of the steps were verified.
+         *
+         * @param stepErrors verification errors of the steps which failed the verification by step position,
+         *                   empty if all of the steps were verified successfully
+         */
+        @UiThread
+        void onValidationFinished(@NonNull SparseArray<VerificationError> stepErrors);
+    }
+
+    /**
+     * A listener for changes of the {@link StepperState}.
+     * Changes are delivered asynchronously on the main thread and conflated,
+     * i.e. if the state changes several times before the listeners are notified they only receive the latest state.
+     *
+     * @see #addStateListener(StateListener)
+     */
+    public interface StateListener {
+
+        /**
+         * Called when the state of the stepper changed.
+         *
+         * @param state the latest state
+         */
+        @UiThread
+        void onStateChanged(@NonNull StepperState state);
+    }
+
+    /**
+     * Creates {@link StepperLayout}s from code without inflating the layout XML.<br>
+     * Only the child views needed by the style's stepper type and feedback types are created and
+     * the views needed by feedback types set later are added on demand. The created layout is configured
+     * further with its setters, e.g. {@link StepperLayout#setAdapter(StepAdapter)}.
+     * A single builder can create multiple layouts, they share the themed context of their child views.
+     */
+    public static final class Builder {
+
+        @NonNull
+        private final Context mContext;
+
+        @NonNull
+        private final StepperStyle mStyle;
+
+        private Context mChildViewContext;
+
+        /**
+         * @param context context of the created layouts
+         * @param style   style of the created layouts, e.g. from {@link StepperStyle#obtain(Context, int)}
+         */
+        public Builder(@NonNull Context context, @NonNull StepperStyle style) {
+            this.mContext = context;
+            this.mStyle = style;
+        }
+
+        @NonNull
+        @UiThread
+        public StepperLayout build() {
+            return new StepperLayout(this);
+        }
+
+        @NonNull
+        @SuppressWarnings("RestrictedApi")
+        Context getChildViewContext() {
+            if (mChildViewContext == null) {
+                final int stepperLayoutTheme = mStyle.getStepperLayoutTheme();
+                mChildViewContext = stepperLayoutTheme != 0 ? new ContextThemeWrapper(mContext, stepperLayoutTheme) : mContext;
+            }
+            return mChildViewContext;
+        }
+    }
+
+    /**
+     * A handle of an operation started by a {@link BlockingStep} after one of the navigation buttons was clicked.
+     * It gets cancelled when the user navigates back, the adapter changes or the layout gets detached from the window.
+     * Once cancelled, calls finishing the operation e.g. {@link OnNextClickedCallback#goToNextStep()} do nothing.
+     */
     public abstract class AbstractOnButtonClickedCallback {
 
+        /**
+         * A listener notified when the operation started with this callback gets cancelled,
+         * so that the step can stop any pending work and release the callback.
+         */
+        public interface OnCancelListener {
+
+            @UiThread
+            void onCancelled();
+        }
+
+        @Nullable
+        private List<OnCancelListener> mOnCancelListeners;
+
+        @Nullable
+        private Runnable mTimeoutRunnable;
+
+        private boolean mCancelled;
+
+        private boolean mResolved;
+
+        private final int mNavigationRequestId = StepperLayout.this.mNavigationRequestId;
+
+        AbstractOnButtonClickedCallback() {
+            mPendingCallbacks.add(this);
+        }
+
         public StepperLayout getStepperLayout() {
             return StepperLayout.this;
         }
 
+        /**
+         * @return true if the operation was cancelled and finishing it will have no effect
+         */
+        public boolean isCancelled() {
+            return mCancelled;
+        }
+
+        /**
+         * Adds a listener to be notified when the operation gets cancelled.
+         * If it is already cancelled the listener gets notified immediately.
+         *
+         * @param listener listener to add
+         */
+        @UiThread
+        public void addOnCancelListener(@NonNull OnCancelListener listener) {
+            if (mCancelled) {
+                listener.onCancelled();
+                return;
+            }
+            if (mOnCancelListeners == null) {
+                mOnCancelListeners = new ArrayList<>(1);
+            }
+            mOnCancelListeners.add(listener);
+        }
+
+        /**
+         * Cancels the operation if it has not finished yet after the given time.
+         *
+         * @param timeoutMillis time after which the operation gets cancelled in milliseconds
+         */
+        @UiThread
+        public void setTimeout(@IntRange(from = 1) long timeoutMillis) {
+            if (mCancelled || mResolved) {
+                return;
+            }
+            if (mTimeoutRunnable == null) {
+                mTimeoutRunnable = new Runnable() {
+                    @Override
+                    public void run() {
+                        cancel();
+                    }
+                };
+            } else {
+                removeCallbacks(mTimeoutRunnable);
+            }
+            postDelayed(mTimeoutRunnable, timeoutMillis);
+        }
+
+        /**
+         * Cancels the operation. Hides the progress indicator if visible and notifies the cancel listeners.
+         */
+        @UiThread
+        public void cancel() {
+            if (mCancelled || mResolved) {
+                return;
+            }
+            mCancelled = true;
+            release();
+            if (mNavigationRequestId == StepperLayout.this.mNavigationRequestId) {
+                // the navigation started with this operation is not going to finish
+                mMetricsRecorder.onNavigationCancelled();
+            }
+            hideProgress();
+            endNavigationRequest(mNavigationRequestId);
+
+            final List<OnCancelListener> listeners = mOnCancelListeners;
+            mOnCancelListeners = null;
+            if (listeners != null) {
+                for (int i = 0, size = listeners.size(); i < size; i++) {
+                    listeners.get(i).onCancelled();
+                }
+            }
+        }
+
+        /**
+         * Marks the operation as finished.
+         *
+         * @return false if the operation was cancelled and should not have any effect, true otherwise
+         */
+        boolean resolve() {
+            if (mCancelled) {
+                return false;
+            }
+            if (!mResolved) {
+                mResolved = true;
+                mOnCancelListeners = null;
+                release();
+                mMetricsRecorder.onBlockingFinished();
+                endNavigationRequest(mNavigationRequestId);
+            }
+            return true;
+        }
+
+        private void release() {
+            mPendingCallbacks.remove(this);
+            if (mTimeoutRunnable != null) {
+                removeCallbacks(mTimeoutRunnable);
+            }
+        }
+
     }
 
     public class OnNextClickedCallback extends AbstractOnButtonClickedCallback {
 
         @UiThread
         public void goToNextStep() {
+            if (!resolve()) {
+                return;
+            }
             final int totalStepCount = mStepAdapter.getCount();
 
             if (mCurrentStepPosition >= totalStepCount - 1) {
@@ -151,7 +432,13 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
         @UiThread
         public void complete() {
+            if (!resolve()) {
+                return;
+            }
             invalidateCurrentPosition();
+            mMetricsRecorder.onNavigationFinished(mCurrentStepPosition);
+            recordEvent(StepperEventSink.EVENT_COMPLETED, mCurrentStepPosition, 0);
+            flushEvents();
             mListener.onCompleted(mCompleteNavigationButton);
         }
 
@@ -161,8 +448,13 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
         @UiThread
         public void goToPrevStep() {
+            if (!resolve()) {
+                return;
+            }
             if (mCurrentStepPosition <= 0) {
                 if (mShowBackButtonOnFirstStep) {
+                    recordEvent(StepperEventSink.EVENT_RETURNED, mCurrentStepPosition, 0);
+                    flushEvents();
                     mListener.onReturn();
                 }
                 return;
@@ -173,6 +465,136 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
     }
 
+    private class LiveValidationRunnable implements Runnable {
+        @Override
+        public void run() {
+            validateCurrentStepLive();
+        }
+    }
+
+    private class ApplyLiveValidationResultRunnable implements Runnable {
+        @Override
+        public void run() {
+            mLiveValidationResultPosted = false;
+            applyLiveValidationResult();
+        }
+    }
+
+    /**
+     * State of {@link StepperLayout} saved in {@link #onSaveInstanceState()}.
+     * Step errors are stored as their components in primitive arrays.
+     */
+    static class SavedState extends BaseSavedState {
+
+        private static final int FLAG_IN_PROGRESS = 1;
+
+        private static final int FLAG_BACK_BUTTON_ENABLED = 1 << 1;
+
+        private static final int FLAG_NEXT_BUTTON_ENABLED = 1 << 2;
+
+        private static final int FLAG_COMPLETE_BUTTON_ENABLED = 1 << 3;
+
+        private static final int FLAG_NEXT_BUTTON_VERIFICATION_FAILED = 1 << 4;
+
+        private static final int FLAG_COMPLETE_BUTTON_VERIFICATION_FAILED = 1 << 5;
+
+        int mCurrentStepPosition;
+
+        int mFlags;
+
+        String mProgressMessage;
+
+        /**
+         * Positions of the steps with errors followed by the code, field ID, severity and message resource ID of each error.
+         */
+        int[] mErrorData;
+
+        /**
+         * Plain messages of the errors.
+         */
+        String[] mErrorMessages;
+
+        SavedState(Parcelable superState) {
+            super(superState);
+        }
+
+        SavedState(Parcel source) {
+            super(source);
+            mCurrentStepPosition = source.readInt();
+            mFlags = source.readInt();
+            mProgressMessage = source.readString();
+            mErrorData = source.createIntArray();
+            mErrorMessages = source.createStringArray();
+        }
+
+        @Override
+        public void writeToParcel(Parcel out, int flags) {
+            super.writeToParcel(out, flags);
+            out.writeInt(mCurrentStepPosition);
+            out.writeInt(mFlags);
+            out.writeString(mProgressMessage);
+            out.writeIntArray(mErrorData);
+            out.writeStringArray(mErrorMessages);
+        }
+
+        boolean hasFlag(int flag) {
+            return (mFlags & flag) != 0;
+        }
+
+        public static final Parcelable.Creator<SavedState> CREATOR = new Parcelable.Creator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel in) {
+                return new SavedState(in);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+    }
+
+    private class DispatchStateRunnable implements Runnable {
+        @Override
+        public void run() {
+            mStateDispatchPosted = false;
+            dispatchState();
+        }
+    }
+
+    private class EndNavigationRequestRunnable implements Runnable {
+        @Override
+        public void run() {
+            mNavigationRequestEndPosted = false;
+            if (!mNavigationRequestInFlight) {
+                return;
+            }
+            if (mPagerScrollState != ViewPager.SCROLL_STATE_IDLE) {
+                // the request ends once the page transition ends
+                mNavigationRequestEndOnIdle = true;
+                return;
+            }
+            finishNavigationRequest();
+        }
+    }
+
+    private class PagerScrollStateListener extends ViewPager.SimpleOnPageChangeListener {
+        @Override
+        public void onPageScrollStateChanged(int state) {
+            mPagerScrollState = state;
+            if (state != ViewPager.SCROLL_STATE_IDLE) {
+                return;
+            }
+            mMetricsRecorder.onScrollSettled();
+            if (mTransitionFrameMonitor != null) {
+                mTransitionFrameMonitor.onPagerIdle();
+            }
+            if (mNavigationRequestEndOnIdle) {
+                finishNavigationRequest();
+            }
+        }
+    }
+
     private class OnBackClickListener implements OnClickListener {
         @Override
         public void onClick(View v) {
@@ -183,14 +605,14 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
     private class OnNextClickListener implements OnClickListener {
         @Override
         public void onClick(View v) {
-            onNext();
+            requestNavigation(NAVIGATION_REQUEST_NEXT);
         }
     }
 
     private class OnCompleteClickListener implements OnClickListener {
         @Override
         public void onClick(View v) {
-            onComplete();
+            requestNavigation(NAVIGATION_REQUEST_COMPLETE);
         }
     }
 
@@ -204,12 +626,20 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
     private ViewGroup mStepNavigation;
 
+    /*
+     * The stepper type indicators below are only created for the matching type in layouts created with a Builder.
+     */
+    @Nullable
     private DottedProgressBar mDottedProgressBar;
 
+    @Nullable
     private ColorableProgressBar mProgressBar;
 
+    @Nullable
     private TabsContainer mTabsContainer;
 
+    private StepperStyle mStyle;
+
     private ColorStateList mBackButtonColor;
 
     private ColorStateList mNextButtonColor;
@@ -257,7 +687,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
     private AbstractStepperType mStepperType;
 
-    private StepperFeedbackType mStepperFeedbackType;
+    private LazyStepperFeedbackType mStepperFeedbackType;
 
     @FloatRange(from = 0.0f, to = 1.0f)
     private float mContentFadeAlpha = AnimationUtil.ALPHA_HALF;
@@ -277,9 +707,128 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
     private boolean mInProgress;
 
+    private String mProgressMessage;
+
+    /**
+     * Progress message restored from the saved state, see {@link #getInterruptedProgressMessage()}.
+     */
+    @Nullable
+    private String mInterruptedProgressMessage;
+
+    /**
+     * True until the first update after setting a new adapter happens.
+     */
+    private boolean mInitialUpdatePending;
+
+    @NonNull
+    private Executor mBackgroundExecutor = StepperExecutors.getBackgroundExecutor();
+
+    @NonNull
+    private final AsyncStepVerifier mAsyncStepVerifier = new AsyncStepVerifier(mBackgroundExecutor);
+
+    @NonNull
+    private final AllStepsValidator mAllStepsValidator = new AllStepsValidator();
+
+    private String mAsyncVerificationProgressMessage;
+
+    private boolean mAsyncVerificationProgressShown;
+
+    @NonNull
+    private final VerificationResultCache mVerificationResultCache = new VerificationResultCache();
+
+    private boolean mLiveValidationEnabled;
+
+    private long mLiveValidationDebounceMillis = DEFAULT_LIVE_VALIDATION_DEBOUNCE_MILLIS;
+
+    @NonNull
+    private final AsyncStepVerifier mLiveStepVerifier = new AsyncStepVerifier(mBackgroundExecutor);
+
+    @NonNull
+    private final Runnable mLiveValidationRunnable = new LiveValidationRunnable();
+
+    @NonNull
+    private final Runnable mApplyLiveValidationResultRunnable = new ApplyLiveValidationResultRunnable();
+
+    private boolean mLiveValidationResultPosted;
+
+    private int mLiveValidationResultPosition;
+
+    @Nullable
+    private VerificationError mLiveValidationResult;
+
+    @NonNull
+    private final List<AbstractOnButtonClickedCallback> mPendingCallbacks = new ArrayList<>();
+
+    @NonNull
+    private final List<StateListener> mStateListeners = new ArrayList<>();
+
+    @NonNull
+    private final Runnable mDispatchStateRunnable = new DispatchStateRunnable();
+
+    private boolean mStateDispatchPosted;
+
+    /**
+     * The {@link PrefetchingStep}s which were asked to prefetch their data by their positions.
+     * They are kept here since their pages might get destroyed before they get cancelled.
+     */
+    @NonNull
+    private final SparseArray<PrefetchingStep> mPrefetchedSteps = new SparseArray<>();
+
+    private final NavigationMetricsRecorder mMetricsRecorder = new NavigationMetricsRecorder();
+
+    @Nullable
+    private TransitionFrameMonitor mTransitionFrameMonitor;
+
+    @Nullable
+    private StepperEventRecorder mEventRecorder;
+
+    /**
+     * Position of the step for which {@link StepperEventSink#EVENT_STEP_ENTERED} was recorded last, -1 if there is none.
+     */
+    private int mEnteredStepPosition = -1;
+
+    @Nullable
+    private StepDataStore mStepDataStore;
+
+    @NavigationPolicy
+    private int mNavigationPolicy = NAVIGATION_POLICY_ALLOW;
+
+    /**
+     * Navigation requests waiting for the one in flight to finish, only used with {@link #NAVIGATION_POLICY_QUEUE}
+     * and {@link #NAVIGATION_POLICY_LATEST}.
+     */
+    @NonNull
+    private final ArrayDeque<Integer> mPendingNavigationRequests = new ArrayDeque<>();
+
+    /**
+     * ID of the latest navigation request, incremented whenever a request starts.
+     */
+    private int mNavigationRequestId;
+
+    private boolean mNavigationRequestInFlight;
+
+    private int mInFlightNavigationRequest;
+
+    private boolean mNavigationRequestEndPosted;
+
+    private boolean mNavigationRequestEndOnIdle;
+
+    private int mCoalescedNavigationRequestCount;
+
+    @NonNull
+    private final Runnable mEndNavigationRequestRunnable = new EndNavigationRequestRunnable();
+
+    private int mPagerScrollState = ViewPager.SCROLL_STATE_IDLE;
+
     @StyleRes
     private int mStepperLayoutTheme;
 
+    /**
+     * Themed context for creating the child views, only set for layouts created with a {@link Builder}.
+     */
+    @Nullable
+    private Context mChildViewContext;
+
     @NonNull
     private StepperListener mListener = StepperListener.NULL;
 
@@ -298,6 +847,11 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         init(attrs, defStyleAttr);
     }
 
+    private StepperLayout(@NonNull Builder builder) {
+        super(builder.mContext);
+        init(builder);
+    }
+
     @Override
     public final void setOrientation(@LinearLayoutCompat.OrientationMode int orientation) {
         //only vertical orientation is supported
@@ -323,21 +877,37 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      * @param stepAdapter step adapter
      */
     public void setAdapter(@NonNull StepAdapter stepAdapter) {
-        this.mStepAdapter = stepAdapter;
-
-        mPager.setAdapter(stepAdapter.getPagerAdapter());
-
-        mStepperType.onNewAdapter(stepAdapter);
-
-        // this is so that the fragments in the adapter can be created BEFORE the onUpdate() method call
-        mPager.getViewTreeObserver().addOnGlobalLayoutListener(new ViewTreeObserver.OnGlobalLayoutListener() {
-            @Override
-            public void onGlobalLayout() {
-                //noinspection deprecation
-                mPager.getViewTreeObserver().removeGlobalOnLayoutListener(this);
-                onUpdate(mCurrentStepPosition, false);
-            }
-        });
+        final boolean traced = TraceUtil.beginSection(TRACE_SET_ADAPTER);
+        try {
+            resetNavigationRequests();
+            cancelAsyncVerification();
+            cancelPendingCallbacks();
+            cancelPrefetching();
+            mMetricsRecorder.onNavigationCancelled();
+            mAllStepsValidator.cancel();
+            mVerificationResultCache.clear();
+            mStepDataStore = null;
+            leaveEnteredStep();
+            this.mStepAdapter = stepAdapter;
+
+            mPager.setAdapter(stepAdapter.getPagerAdapter());
+
+            mStepperType.onNewAdapter(stepAdapter);
+
+            // this is so that the fragments in the adapter can be created BEFORE the onUpdate() method call
+            mInitialUpdatePending = true;
+            mPager.getViewTreeObserver().addOnGlobalLayoutListener(new ViewTreeObserver.OnGlobalLayoutListener() {
+                @Override
+                public void onGlobalLayout() {
+                    //noinspection deprecation
+                    mPager.getViewTreeObserver().removeGlobalOnLayoutListener(this);
+                    mInitialUpdatePending = false;
+                    onUpdate(mCurrentStepPosition, false);
+                }
+            });
+        } finally {
+            TraceUtil.endSection(traced);
+        }
     }
 
     /**
@@ -384,7 +954,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
     public void onTabClicked(int position) {
         if (mTabNavigationEnabled) {
             if (position > mCurrentStepPosition) {
-                onNext();
+                goToStep(position);
             } else if (position < mCurrentStepPosition) {
                 setCurrentStepPosition(position);
             }
@@ -396,23 +966,98 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      * Unlike {@link #setCurrentStepPosition(int)} this actually verifies the step.
      */
     public void proceed() {
-        if (isLastPosition(mCurrentStepPosition)) {
-            onComplete();
-        } else {
-            onNext();
+        requestNavigation(isLastPosition(mCurrentStepPosition) ? NAVIGATION_REQUEST_COMPLETE : NAVIGATION_REQUEST_NEXT);
+    }
+
+    /**
+     * Goes to the step at the provided position.
+     * When going forward every step on the way is verified in a single pass and the stepper stops at the first step
+     * which fails the verification. It also stops at steps which cannot be verified at this point,
+     * i.e. a {@link BlockingStep} (which needs to perform its operation first), an {@link AsyncStep}
+     * (which needs to be verified in the background) or a step which was not created yet.
+     * Adapters based on the {@link ViewPager}, e.g. {@link com.stepstone.stepper.adapter.AbstractFragmentStepAdapter},
+     * only create the steps within the offscreen page limit around the current step, so by default the stepper goes
+     * at most two steps forward at once. Use {@link #setOffscreenPageLimit(int)} to verify more steps in a single pass.
+     * Errors are stored for the verified steps and the UI is updated only once for the position the stepper stopped at.<br>
+     * When going to the next step this is an equivalent of clicking the Next button, including the {@link #setNavigationPolicy(int) navigation policy}.
+     * Going further forward is not a navigation request which could be queued, with a policy other than
+     * {@link #NAVIGATION_POLICY_ALLOW} it is dropped while a request is in flight.
+     * When going backwards this is an equivalent of {@link #setCurrentStepPosition(int)}, which ends the request in flight.
+     *
+     * @param targetStepPosition position of the step to go to, must be in the range of the adapter item count
+     * @throws IllegalArgumentException if the position is out of the range of the adapter item count
+     */
+    @UiThread
+    public void goToStep(@IntRange(from = 0) int targetStepPosition) {
+        final int stepCount = mStepAdapter != null ? mStepAdapter.getCount() : 0;
+        if (targetStepPosition < 0 || targetStepPosition >= stepCount) {
+            throw new IllegalArgumentException("Step position " + targetStepPosition + " is out of range, step count: " + stepCount);
+        }
+
+        if (targetStepPosition < mCurrentStepPosition) {
+            setCurrentStepPosition(targetStepPosition);
+            return;
+        }
+
+        if (targetStepPosition == mCurrentStepPosition) {
+            return;
         }
+
+        if (targetStepPosition == mCurrentStepPosition + 1 || !canVerifyInPlace(findCurrentStep())) {
+            requestNavigation(NAVIGATION_REQUEST_NEXT);
+            return;
+        }
+
+        if (mNavigationPolicy != NAVIGATION_POLICY_ALLOW && mNavigationRequestInFlight) {
+            // jumping over several steps cannot be queued behind the request in flight
+            mCoalescedNavigationRequestCount++;
+            return;
+        }
+
+        int newStepPosition = mCurrentStepPosition;
+        while (newStepPosition < targetStepPosition) {
+            Step step = mStepAdapter.findStep(newStepPosition);
+            if (!canVerifyInPlace(step)) {
+                break;
+            }
+
+            final VerificationError verificationError = verifyStep(newStepPosition, step);
+            mStepperType.setError(newStepPosition, verificationError);
+            if (verificationError != null) {
+                recordEvent(StepperEventSink.EVENT_VERIFICATION_FAILED, newStepPosition, verificationError.getCode());
+                onError(step, verificationError);
+                break;
+            }
+            newStepPosition++;
+        }
+
+        if (newStepPosition == mCurrentStepPosition) {
+            // the current step failed the verification so only its error needs to be shown
+            invalidateCurrentPosition();
+            return;
+        }
+        mCurrentStepPosition = newStepPosition;
+        onUpdate(newStepPosition, true);
     }
 
     /**
      * To be called when the user wants to go to the previous step.
+     * Cancels the Next/Complete request in flight if there is one.
      */
     public void onBackClicked() {
+        requestNavigation(NAVIGATION_REQUEST_BACK);
+    }
+
+    private void goBack() {
+        cancelAsyncVerification();
+        cancelPendingCallbacks();
         Step step = findCurrentStep();
 
         updateErrorFlagWhenGoingBack();
 
         OnBackClickedCallback onBackClickedCallback = new OnBackClickedCallback();
         if (step instanceof BlockingStep) {
+            mMetricsRecorder.onBlockingStarted();
             ((BlockingStep) step).onBackClicked(onBackClickedCallback);
         } else {
             onBackClickedCallback.goToPrevStep();
@@ -426,6 +1071,10 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      * @param currentStepPosition new current step position
      */
     public void setCurrentStepPosition(int currentStepPosition) {
+        resetNavigationRequests();
+        cancelAsyncVerification();
+        cancelPendingCallbacks();
+        mMetricsRecorder.onNavigationCancelled();
         int previousStepPosition = mCurrentStepPosition;
         if (currentStepPosition < previousStepPosition) {
             updateErrorFlagWhenGoingBack();
@@ -453,6 +1102,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      */
     public void setNextButtonVerificationFailed(boolean verificationFailed) {
         mNextNavigationButton.setVerificationFailed(verificationFailed);
+        notifyStateChanged();
     }
 
     /**
@@ -464,6 +1114,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      */
     public void setCompleteButtonVerificationFailed(boolean verificationFailed) {
         mCompleteNavigationButton.setVerificationFailed(verificationFailed);
+        notifyStateChanged();
     }
 
     /**
@@ -474,6 +1125,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      */
     public void setNextButtonEnabled(boolean enabled) {
         mNextNavigationButton.setEnabled(enabled);
+        notifyStateChanged();
     }
 
     /**
@@ -484,6 +1136,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      */
     public void setCompleteButtonEnabled(boolean enabled) {
         mCompleteNavigationButton.setEnabled(enabled);
+        notifyStateChanged();
     }
 
     /**
@@ -494,6 +1147,7 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      */
     public void setBackButtonEnabled(boolean enabled) {
         mBackNavigationButton.setEnabled(enabled);
+        notifyStateChanged();
     }
 
     /**
@@ -682,22 +1336,43 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      * @param progressMessage optional progress message if supported by the selected types
      */
     public void showProgress(@NonNull String progressMessage) {
+        mInterruptedProgressMessage = null;
         if (!mInProgress) {
             mStepperFeedbackType.showProgress(progressMessage);
             mInProgress = true;
+            mProgressMessage = progressMessage;
+            notifyStateChanged();
         }
     }
 
     /**
      * Hides the progress indicator if visible.
+     * If a {@link BlockingStep} operation of the navigation request in flight is pending, the request ends here,
+     * e.g. when the step shows an error instead of going to the next step. See {@link #setNavigationPolicy(int)}.
      */
     public void hideProgress() {
+        mInterruptedProgressMessage = null;
         if (mInProgress) {
             mInProgress = false;
             mStepperFeedbackType.hideProgress();
+            notifyStateChanged();
+            endBlockedNavigationRequest();
         }
     }
 
+    /**
+     * Returns the progress message which was shown when the state of this layout was saved, e.g. before the process got killed.
+     * The progress is not shown again after restoring the state, since the operation which would hide it is no longer running.
+     * A step which resumes its operation can show the progress again with this message.
+     * It is cleared once the progress gets shown or hidden.
+     *
+     * @return the progress message shown before the state was restored or null if there was no progress
+     */
+    @Nullable
+    public String getInterruptedProgressMessage() {
+        return mInterruptedProgressMessage;
+    }
+
     /**
      * Checks if there's an ongoing operation i.e. if {@link #showProgress(String)} was called and not followed by {@link #hideProgress()} yet.
      *
@@ -707,6 +1382,377 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         return mInProgress;
     }
 
+    /**
+     * Sets the executor on which {@link AsyncStep#verifyStepAsync()} is called.
+     * By default a bounded thread pool shared by all stepper layouts is used.
+     *
+     * @param executor executor to run the verifications on
+     */
+    public void setAsyncVerificationExecutor(@NonNull Executor executor) {
+        mBackgroundExecutor = executor;
+        mAsyncStepVerifier.setExecutor(executor);
+        mLiveStepVerifier.setExecutor(executor);
+    }
+
+    /**
+     * Sets whether the current step should be validated while the user changes its input.<br>
+     * When enabled, steps should call {@link #notifyStepInputChanged()} whenever their input changes.
+     * Once the input stops changing for the debounce time the step gets verified (in the background for {@link AsyncStep}s)
+     * and the result is applied to the 'verification failed' state of the Next/Complete button
+     * and to the error state of the step (if {@link #isShowErrorStateEnabled()}) at most once per frame.
+     * Disabled by default.<br>
+     * <b>NOTE:</b> Steps which are not {@link AsyncStep}s get {@link Step#verifyStep()} called on the main thread
+     * after every debounced input change, so it must be cheap. Expensive verifications should implement {@link AsyncStep}
+     * or {@link CacheableStep} to skip verifying unchanged input.
+     *
+     * @param liveValidationEnabled true if the current step should be validated on input changes, false otherwise
+     * @see #setLiveValidationDebounce(long)
+     */
+    public void setLiveValidationEnabled(boolean liveValidationEnabled) {
+        mLiveValidationEnabled = liveValidationEnabled;
+        if (!liveValidationEnabled) {
+            cancelLiveValidation();
+        }
+    }
+
+    /**
+     * @return true if the current step is validated on input changes
+     */
+    public boolean isLiveValidationEnabled() {
+        return mLiveValidationEnabled;
+    }
+
+    /**
+     * Sets the time to wait after the last input change before validating the step when live validation is enabled.
+     * {@link #DEFAULT_LIVE_VALIDATION_DEBOUNCE_MILLIS} by default.
+     *
+     * @param debounceMillis debounce time in milliseconds
+     */
+    public void setLiveValidationDebounce(@IntRange(from = 0) long debounceMillis) {
+        mLiveValidationDebounceMillis = debounceMillis;
+    }
+
+    /**
+     * To be called by the current step whenever its input changes, e.g. on every keystroke.
+     * It does nothing if live validation is disabled.
+     *
+     * @see #setLiveValidationEnabled(boolean)
+     */
+    @UiThread
+    public void notifyStepInputChanged() {
+        if (!mLiveValidationEnabled) {
+            return;
+        }
+        removeCallbacks(mLiveValidationRunnable);
+        postDelayed(mLiveValidationRunnable, mLiveValidationDebounceMillis);
+    }
+
+    /**
+     * Verifies all of the steps, e.g. before the final submission.<br>
+     * {@link AsyncStep}s are verified concurrently on the async verification executor
+     * while the remaining steps are verified one after another on the main thread.
+     * Steps which were not created yet are skipped. If no adapter is set the listener gets notified right away with no errors.
+     * Once all of the steps are verified the errors are stored for each step,
+     * the UI is updated once and the listener gets notified.
+     * Unlike clicking the Next/Complete button this does not call {@link Step#onError(VerificationError)}.<br>
+     * Calling this again cancels the previous validation.
+     *
+     * @param listener listener to notify once all of the steps are verified
+     * @see #setAsyncVerificationExecutor(Executor)
+     */
+    @UiThread
+    public void validateAll(@NonNull final ValidationListener listener) {
+        final SparseArray<VerificationError> stepErrors = new SparseArray<>();
+        final int stepCount = mStepAdapter != null ? mStepAdapter.getCount() : 0;
+        int asyncStepCount = 0;
+        final int[] asyncStepPositions = new int[stepCount];
+        final AsyncStep[] asyncSteps = new AsyncStep[stepCount];
+        final long[] fingerprints = new long[stepCount];
+
+        for (int i = 0; i < stepCount; i++) {
+            Step step = mStepAdapter.findStep(i);
+            if (step == null) {
+                continue;
+            }
+
+            VerificationError verificationError;
+            if (step instanceof AsyncStep) {
+                final boolean cacheable = step instanceof CacheableStep;
+                final long fingerprint = cacheable ? ((CacheableStep) step).getInputFingerprint() : 0L;
+                if (!cacheable || !mVerificationResultCache.contains(i, fingerprint)) {
+                    asyncStepPositions[asyncStepCount] = i;
+                    asyncSteps[asyncStepCount] = (AsyncStep) step;
+                    fingerprints[asyncStepCount] = fingerprint;
+                    asyncStepCount++;
+                    continue;
+                }
+                verificationError = mVerificationResultCache.get(i);
+            } else {
+                verificationError = verifyStep(i, step);
+            }
+
+            mStepperType.setError(i, verificationError);
+            if (verificationError != null) {
+                stepErrors.put(i, verificationError);
+            }
+        }
+
+        final int[] positions = new int[asyncStepCount];
+        final AsyncStep[] steps = new AsyncStep[asyncStepCount];
+        System.arraycopy(asyncStepPositions, 0, positions, 0, asyncStepCount);
+        System.arraycopy(asyncSteps, 0, steps, 0, asyncStepCount);
+
+        mAllStepsValidator.validate(mBackgroundExecutor, positions, steps, new AllStepsValidator.Callback() {
+            @Override
+            public void onValidated(@NonNull int[] stepPositions, @NonNull VerificationError[] errors) {
+                for (int i = 0; i < stepPositions.length; i++) {
+                    final int stepPosition = stepPositions[i];
+                    final VerificationError verificationError = errors[i];
+                    if (steps[i] instanceof CacheableStep) {
+                        mVerificationResultCache.put(stepPosition, fingerprints[i], verificationError);
+                    }
+                    mStepperType.setError(stepPosition, verificationError);
+                    if (verificationError != null) {
+                        stepErrors.put(stepPosition, verificationError);
+                    }
+                }
+                invalidateCurrentPosition();
+                listener.onValidationFinished(stepErrors);
+            }
+        });
+    }
+
+    /**
+     * Checks if there's an ongoing validation started with {@link #validateAll(ValidationListener)}.
+     *
+     * @return true if validating, false otherwise
+     */
+    public boolean isValidatingAll() {
+        return mAllStepsValidator.isValidating();
+    }
+
+    /**
+     * Returns the store for sharing data between the steps. A new store is created for every adapter.
+     *
+     * @return store of the current session
+     */
+    @NonNull
+    @UiThread
+    public StepDataStore getStepDataStore() {
+        if (mStepDataStore == null) {
+            mStepDataStore = new StepDataStore();
+        }
+        return mStepDataStore;
+    }
+
+    /**
+     * Sets how Next/Complete/Back requests made while the previous one is still in flight are handled.
+     * A request is in flight from the button click until the step was verified and the {@link BlockingStep} callback
+     * got called or cancelled, and the page transition has finished.
+     * If the {@link BlockingStep} does not finish its operation, e.g. because it shows an error, the request ends
+     * when the step calls {@link #hideProgress()} or when the callback times out
+     * (see {@link AbstractOnButtonClickedCallback#setTimeout(long)}).
+     * Tab clicks and {@link #goToStep(int)} follow the policy only when going to the next step, see {@link #goToStep(int)}.
+     * Back always cancels a Next/Complete request in flight.
+     * {@link #NAVIGATION_POLICY_ALLOW} by default.
+     *
+     * @param navigationPolicy navigation request policy
+     * @see #getCoalescedNavigationRequestCount()
+     */
+    @UiThread
+    public void setNavigationPolicy(@NavigationPolicy int navigationPolicy) {
+        if (navigationPolicy == NAVIGATION_POLICY_ALLOW) {
+            resetNavigationRequests();
+        }
+        this.mNavigationPolicy = navigationPolicy;
+    }
+
+    @NavigationPolicy
+    public int getNavigationPolicy() {
+        return mNavigationPolicy;
+    }
+
+    /**
+     * Returns the number of navigation requests which were dropped or replaced by a newer one
+     * due to the selected navigation policy.
+     *
+     * @return number of coalesced navigation requests
+     * @see #setNavigationPolicy(int)
+     */
+    public int getCoalescedNavigationRequestCount() {
+        return mCoalescedNavigationRequestCount;
+    }
+
+    /**
+     * Sets a listener for the latency metrics of Next/Complete/Back navigations.
+     * Nothing is measured if there is no listener.
+     *
+     * @param metricsListener metrics listener, null to stop measuring
+     */
+    @UiThread
+    public void setMetricsListener(@Nullable StepperMetricsListener metricsListener) {
+        mMetricsRecorder.setListener(metricsListener);
+    }
+
+    /**
+     * Sets a listener for the frame statistics of the transitions between steps.
+     * Frames are monitored only while a transition is running.
+     * This requires API 16 or higher, the listener is ignored on older versions.
+     *
+     * @param transitionFrameListener transition frame listener, null to stop monitoring
+     */
+    @UiThread
+    public void setTransitionFrameListener(@Nullable TransitionFrameListener transitionFrameListener) {
+        if (mTransitionFrameMonitor != null) {
+            mTransitionFrameMonitor.stop();
+            mTransitionFrameMonitor = null;
+        }
+        if (transitionFrameListener != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mTransitionFrameMonitor = new TransitionFrameMonitor(getContext(), transitionFrameListener);
+        }
+    }
+
+    /**
+     * Sets a sink for the funnel events (steps entered and left, verification failures, completion and return)
+     * delivered in batches on the default background executor.
+     *
+     * @param eventSink event sink, null to stop recording events
+     * @see #setEventSink(StepperEventSink, Executor)
+     */
+    @UiThread
+    public void setEventSink(@Nullable StepperEventSink eventSink) {
+        setEventSink(eventSink, StepperExecutors.getBackgroundExecutor());
+    }
+
+    /**
+     * Sets a sink for the funnel events (steps entered and left, verification failures, completion and return).
+     * Events are recorded without allocating into a fixed-size buffer which is drained to the sink in batches
+     * on the provided executor. Pending events are delivered to the previous sink when it gets replaced.
+     *
+     * @param eventSink event sink, null to stop recording events
+     * @param executor  executor on which the events are delivered
+     */
+    @UiThread
+    public void setEventSink(@Nullable StepperEventSink eventSink, @NonNull Executor executor) {
+        flushEvents();
+        mEventRecorder = eventSink != null ? new StepperEventRecorder(eventSink, executor) : null;
+        mEnteredStepPosition = -1;
+        if (mStepAdapter != null && !mInitialUpdatePending) {
+            enterStep(mCurrentStepPosition);
+        }
+    }
+
+    /**
+     * Enables Systrace/Perfetto trace sections around the hot paths of the library, e.g. setting the adapter,
+     * updating the layout after a step change, verifying steps and updating the stepper indicators.
+     * Disabled by default. This affects all {@link StepperLayout}s in the process.
+     *
+     * @param traceEnabled true if trace sections should be added
+     */
+    public static void setTraceEnabled(boolean traceEnabled) {
+        TraceUtil.setEnabled(traceEnabled);
+    }
+
+    /**
+     * Creates a snapshot of the current state of the stepper.
+     *
+     * @return current state
+     */
+    @NonNull
+    public StepperState getState() {
+        final int stepCount = mStepAdapter != null ? mStepAdapter.getCount() : 0;
+        final SparseArray<VerificationError> stepErrors = new SparseArray<>();
+        for (int i = 0; i < stepCount; i++) {
+            final VerificationError error = mStepperType.getErrorAtPosition(i);
+            if (error != null) {
+                stepErrors.put(i, error);
+            }
+        }
+        return new StepperState(mCurrentStepPosition, stepCount, stepErrors, mInProgress,
+                mBackNavigationButton.isEnabled(), mNextNavigationButton.isEnabled(), mCompleteNavigationButton.isEnabled(),
+                mNextNavigationButton.isVerificationFailed(), mCompleteNavigationButton.isVerificationFailed());
+    }
+
+    /**
+     * Adds a listener notified whenever the state of the stepper changes.
+     * Unlike {@link StepperListener} any number of listeners can be added.
+     * The listeners get notified about the current state shortly after a listener is added.
+     *
+     * @param listener listener to add
+     * @see StateListener
+     */
+    @UiThread
+    public void addStateListener(@NonNull StateListener listener) {
+        mStateListeners.add(listener);
+        notifyStateChanged();
+    }
+
+    /**
+     * Removes a listener added with {@link #addStateListener(StateListener)}.
+     *
+     * @param listener listener to remove
+     */
+    @UiThread
+    public void removeStateListener(@NonNull StateListener listener) {
+        mStateListeners.remove(listener);
+    }
+
+    /**
+     * Sets the time after which the verification of an {@link AsyncStep} gets cancelled and treated as failed.
+     * There is no timeout by default.
+     *
+     * @param timeoutMillis timeout in milliseconds, 0 to wait indefinitely
+     */
+    public void setAsyncVerificationTimeout(@IntRange(from = 0) long timeoutMillis) {
+        mAsyncStepVerifier.setTimeout(timeoutMillis);
+    }
+
+    /**
+     * Sets the progress message shown while an {@link AsyncStep} is being verified if supported by the selected stepper feedback types.
+     *
+     * @param progressMessage progress message
+     * @see #showProgress(String)
+     */
+    public void setAsyncVerificationProgressMessage(@NonNull String progressMessage) {
+        mAsyncVerificationProgressMessage = progressMessage;
+    }
+
+    /**
+     * Checks if there's an ongoing verification of an {@link AsyncStep}.
+     *
+     * @return true if verifying, false otherwise
+     */
+    public boolean isVerifyingAsync() {
+        return mAsyncStepVerifier.isVerifying();
+    }
+
+    /**
+     * Returns how many times the verification of a {@link CacheableStep} was skipped
+     * because its input fingerprint did not change since the last verification.
+     *
+     * @return verification cache hit count
+     */
+    public int getVerificationCacheHitCount() {
+        return mVerificationResultCache.getHitCount();
+    }
+
+    /**
+     * Returns how many times a {@link CacheableStep} had to be verified because there was no cached result for its input fingerprint.
+     *
+     * @return verification cache miss count
+     */
+    public int getVerificationCacheMissCount() {
+        return mVerificationResultCache.getMissCount();
+    }
+
+    /**
+     * Discards all the cached verification results of {@link CacheableStep}s so that they are verified again
+     * e.g. if the verification depends on external data which has changed.
+     */
+    public void invalidateVerificationCache() {
+        mVerificationResultCache.clear();
+    }
+
     /**
      * Sets the mask for the stepper feedback type.
      *
@@ -714,7 +1760,8 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
      */
     public void setFeedbackType(int feedbackTypeMask) {
         mFeedbackTypeMask = feedbackTypeMask;
-        mStepperFeedbackType = StepperFeedbackTypeFactory.createType(mFeedbackTypeMask, this);
+        createMissingFeedbackViews(feedbackTypeMask);
+        mStepperFeedbackType.setFeedbackTypeMask(feedbackTypeMask);
     }
 
     /**
@@ -734,10 +1781,19 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         return mContentOverlayBackground;
     }
 
+    /**
+     * Returns the style this layout was created with. Changes made later through the setters are not reflected in it.
+     *
+     * @return the style resolved from the attributes of this layout
+     */
+    @NonNull
+    public StepperStyle getStyle() {
+        return mStyle;
+    }
+
     @SuppressWarnings("RestrictedApi")
     private void init(AttributeSet attrs, @AttrRes int defStyleAttr) {
-        initDefaultValues();
-        extractValuesFromAttributes(attrs, defStyleAttr);
+        applyStyle(StepperStyle.obtain(getContext(), attrs, defStyleAttr));
 
         final Context context = getContext();
 
@@ -746,10 +1802,50 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
         LayoutInflater.from(contextThemeWrapper).inflate(R.layout.ms_stepper_layout, this, true);
 
+        onChildViewsCreated();
+    }
+
+    private void init(@NonNull Builder builder) {
+        applyStyle(builder.mStyle);
+
+        mChildViewContext = builder.getChildViewContext();
+        if (mTypeIdentifier == AbstractStepperType.TABS) {
+            addView(StepperLayoutViews.createTabsContainer(mChildViewContext));
+        }
+        addView(StepperLayoutViews.createContentContainer(mChildViewContext));
+        addView(StepperLayoutViews.createBottomNavigation(mChildViewContext,
+                mTypeIdentifier == AbstractStepperType.DOTS, mTypeIdentifier == AbstractStepperType.PROGRESS_BAR));
+        mPager = (ViewPager) findViewById(R.id.ms_stepPager);
+        createMissingFeedbackViews(mFeedbackTypeMask);
+
+        onChildViewsCreated();
+    }
+
+    /**
+     * Adds the views used by the given feedback types if they are missing, which can only happen for layouts created with a {@link Builder}.
+     */
+    private void createMissingFeedbackViews(int feedbackTypeMask) {
+        if (mChildViewContext == null) {
+            return;
+        }
+        if ((feedbackTypeMask & StepperFeedbackType.TABS) != 0 && findViewById(R.id.ms_stepTabsContainer) == null) {
+            addView(StepperLayoutViews.createTabsContainer(mChildViewContext), 0);
+        }
+        final ViewGroup contentContainer = (ViewGroup) mPager.getParent();
+        if ((feedbackTypeMask & StepperFeedbackType.CONTENT_OVERLAY) != 0 && findViewById(R.id.ms_stepPagerOverlay) == null) {
+            contentContainer.addView(StepperLayoutViews.createContentOverlay(mChildViewContext), contentContainer.indexOfChild(mPager) + 1);
+        }
+        if ((feedbackTypeMask & StepperFeedbackType.CONTENT_PROGRESS) != 0 && findViewById(R.id.ms_stepPagerProgressBar) == null) {
+            contentContainer.addView(StepperLayoutViews.createContentProgressBar(mChildViewContext));
+        }
+    }
+
+    private void onChildViewsCreated() {
         setOrientation(VERTICAL);
 
         bindViews();
 
+        mPager.addOnPageChangeListener(new PagerScrollStateListener());
         mPager.setOnTouchListener(new View.OnTouchListener() {
 
             @Override
@@ -760,13 +1856,119 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
         initNavigation();
 
-        mDottedProgressBar.setVisibility(GONE);
-        mProgressBar.setVisibility(GONE);
-        mTabsContainer.setVisibility(GONE);
+        if (mDottedProgressBar != null) {
+            mDottedProgressBar.setVisibility(GONE);
+        }
+        if (mProgressBar != null) {
+            mProgressBar.setVisibility(GONE);
+        }
+        if (mTabsContainer != null) {
+            mTabsContainer.setVisibility(GONE);
+        }
         mStepNavigation.setVisibility(mShowBottomNavigation ? View.VISIBLE : View.GONE);
 
         mStepperType = StepperTypeFactory.createType(mTypeIdentifier, this);
-        mStepperFeedbackType = StepperFeedbackTypeFactory.createType(mFeedbackTypeMask, this);
+        mStepperFeedbackType = new LazyStepperFeedbackType(this, mFeedbackTypeMask);
+    }
+
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        final SavedState savedState = new SavedState(super.onSaveInstanceState());
+        savedState.mCurrentStepPosition = mCurrentStepPosition;
+        savedState.mProgressMessage = mProgressMessage;
+        // the buttons disabled only for the duration of the progress get enabled when the progress is hidden
+        final boolean buttonsDisabledByProgress = mInProgress && (mFeedbackTypeMask & StepperFeedbackType.NONE) == 0
+                && (mFeedbackTypeMask & StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION) != 0;
+        savedState.mFlags = (mInProgress ? SavedState.FLAG_IN_PROGRESS : 0)
+                | (buttonsDisabledByProgress || mBackNavigationButton.isEnabled() ? SavedState.FLAG_BACK_BUTTON_ENABLED : 0)
+                | (buttonsDisabledByProgress || mNextNavigationButton.isEnabled() ? SavedState.FLAG_NEXT_BUTTON_ENABLED : 0)
+                | (buttonsDisabledByProgress || mCompleteNavigationButton.isEnabled() ? SavedState.FLAG_COMPLETE_BUTTON_ENABLED : 0)
+                | (mNextNavigationButton.isVerificationFailed() ? SavedState.FLAG_NEXT_BUTTON_VERIFICATION_FAILED : 0)
+                | (mCompleteNavigationButton.isVerificationFailed() ? SavedState.FLAG_COMPLETE_BUTTON_VERIFICATION_FAILED : 0);
+
+        final int stepCount = mStepAdapter != null ? mStepAdapter.getCount() : 0;
+        int errorCount = 0;
+        for (int i = 0; i < stepCount; i++) {
+            if (mStepperType.getErrorAtPosition(i) != null) {
+                errorCount++;
+            }
+        }
+        final int[] errorData = new int[errorCount * SAVED_ERROR_DATA_SIZE];
+        final String[] errorMessages = new String[errorCount];
+        int errorIndex = 0;
+        for (int i = 0; i < stepCount; i++) {
+            final VerificationError error = mStepperType.getErrorAtPosition(i);
+            if (error == null) {
+                continue;
+            }
+            final int offset = errorIndex * SAVED_ERROR_DATA_SIZE;
+            errorData[offset] = i;
+            errorData[offset + 1] = error.getCode();
+            errorData[offset + 2] = error.getFieldId();
+            errorData[offset + 3] = error.getSeverity();
+            errorData[offset + 4] = error.getErrorMessageResId();
+            // only the plain message is saved, the message resource is saved above
+            //noinspection deprecation
+            errorMessages[errorIndex] = error.getErrorMessage();
+            errorIndex++;
+        }
+        savedState.mErrorData = errorData;
+        savedState.mErrorMessages = errorMessages;
+        return savedState;
+    }
+
+    @Override
+    protected void onRestoreInstanceState(Parcelable state) {
+        if (!(state instanceof SavedState)) {
+            super.onRestoreInstanceState(state);
+            return;
+        }
+        final SavedState savedState = (SavedState) state;
+        super.onRestoreInstanceState(savedState.getSuperState());
+
+        final int[] errorData = savedState.mErrorData;
+        for (int i = 0; i < savedState.mErrorMessages.length; i++) {
+            final int offset = i * SAVED_ERROR_DATA_SIZE;
+            //noinspection WrongConstant
+            final VerificationError error = new VerificationError.Builder()
+                    .setCode(errorData[offset + 1])
+                    .setFieldId(errorData[offset + 2])
+                    .setSeverity(errorData[offset + 3])
+                    .setErrorMessage(errorData[offset + 4])
+                    .setErrorMessage(savedState.mErrorMessages[i])
+                    .create();
+            mStepperType.setError(errorData[offset], error);
+        }
+
+        mBackNavigationButton.setEnabled(savedState.hasFlag(SavedState.FLAG_BACK_BUTTON_ENABLED));
+        mNextNavigationButton.setEnabled(savedState.hasFlag(SavedState.FLAG_NEXT_BUTTON_ENABLED));
+        mCompleteNavigationButton.setEnabled(savedState.hasFlag(SavedState.FLAG_COMPLETE_BUTTON_ENABLED));
+        mNextNavigationButton.setVerificationFailed(savedState.hasFlag(SavedState.FLAG_NEXT_BUTTON_VERIFICATION_FAILED));
+        mCompleteNavigationButton.setVerificationFailed(savedState.hasFlag(SavedState.FLAG_COMPLETE_BUTTON_VERIFICATION_FAILED));
+        // the operation which showed the progress did not survive, it is up to the step to show it again
+        mInterruptedProgressMessage = savedState.hasFlag(SavedState.FLAG_IN_PROGRESS) ? savedState.mProgressMessage : null;
+
+        // if the initial update after setting the adapter is still pending it goes straight to the restored position
+        mCurrentStepPosition = savedState.mCurrentStepPosition;
+        if (mStepAdapter != null && !mInitialUpdatePending) {
+            onUpdate(mCurrentStepPosition, false);
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        resetNavigationRequests();
+        cancelAsyncVerification();
+        cancelPendingCallbacks();
+        cancelPrefetching();
+        mMetricsRecorder.onNavigationCancelled();
+        mAllStepsValidator.cancel();
+        cancelLiveValidation();
+        if (mTransitionFrameMonitor != null) {
+            mTransitionFrameMonitor.stop();
+        }
+        flushEvents();
+        super.onDetachedFromWindow();
     }
 
     private void initNavigation() {
@@ -832,102 +2034,34 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         mTabsContainer = (TabsContainer) findViewById(R.id.ms_stepTabsContainer);
     }
 
-    private void extractValuesFromAttributes(AttributeSet attrs, @AttrRes int defStyleAttr) {
-        if (attrs != null) {
-            final TypedArray a = getContext().obtainStyledAttributes(
-                    attrs, R.styleable.StepperLayout, defStyleAttr, 0);
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_backButtonColor)) {
-                mBackButtonColor = a.getColorStateList(R.styleable.StepperLayout_ms_backButtonColor);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_nextButtonColor)) {
-                mNextButtonColor = a.getColorStateList(R.styleable.StepperLayout_ms_nextButtonColor);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_completeButtonColor)) {
-                mCompleteButtonColor = a.getColorStateList(R.styleable.StepperLayout_ms_completeButtonColor);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_activeStepColor)) {
-                mSelectedColor = a.getColor(R.styleable.StepperLayout_ms_activeStepColor, mSelectedColor);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_inactiveStepColor)) {
-                mUnselectedColor = a.getColor(R.styleable.StepperLayout_ms_inactiveStepColor, mUnselectedColor);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_errorColor)) {
-                mErrorColor = a.getColor(R.styleable.StepperLayout_ms_errorColor, mErrorColor);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_bottomNavigationBackground)) {
-                mBottomNavigationBackground = a.getResourceId(R.styleable.StepperLayout_ms_bottomNavigationBackground, 0);
-            }
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_backButtonBackground)) {
-                mBackButtonBackground = a.getResourceId(R.styleable.StepperLayout_ms_backButtonBackground, 0);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_nextButtonBackground)) {
-                mNextButtonBackground = a.getResourceId(R.styleable.StepperLayout_ms_nextButtonBackground, 0);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_completeButtonBackground)) {
-                mCompleteButtonBackground = a.getResourceId(R.styleable.StepperLayout_ms_completeButtonBackground, 0);
-            }
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_backButtonText)) {
-                mBackButtonText = a.getString(R.styleable.StepperLayout_ms_backButtonText);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_nextButtonText)) {
-                mNextButtonText = a.getString(R.styleable.StepperLayout_ms_nextButtonText);
-            }
-            if (a.hasValue(R.styleable.StepperLayout_ms_completeButtonText)) {
-                mCompleteButtonText = a.getString(R.styleable.StepperLayout_ms_completeButtonText);
-            }
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_tabStepDividerWidth)) {
-                mTabStepDividerWidth = a.getDimensionPixelOffset(R.styleable.StepperLayout_ms_tabStepDividerWidth, -1);
-            }
-
-            mShowBackButtonOnFirstStep = a.getBoolean(R.styleable.StepperLayout_ms_showBackButtonOnFirstStep, false);
-
-            mShowBottomNavigation = a.getBoolean(R.styleable.StepperLayout_ms_showBottomNavigation, true);
-
-            mShowErrorStateEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorState, false);
-            mShowErrorStateEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorStateEnabled, mShowErrorStateEnabled);
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_stepperType)) {
-                mTypeIdentifier = a.getInt(R.styleable.StepperLayout_ms_stepperType, AbstractStepperType.PROGRESS_BAR);
-            }
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_stepperFeedbackType)) {
-                mFeedbackTypeMask = a.getInt(R.styleable.StepperLayout_ms_stepperFeedbackType, StepperFeedbackType.NONE);
-            }
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_stepperFeedback_contentFadeAlpha)) {
-                mContentFadeAlpha = a.getFloat(R.styleable.StepperLayout_ms_stepperFeedback_contentFadeAlpha, AnimationUtil.ALPHA_HALF);
-            }
-
-            if (a.hasValue(R.styleable.StepperLayout_ms_stepperFeedback_contentOverlayBackground)) {
-                mContentOverlayBackground = a.getResourceId(R.styleable.StepperLayout_ms_stepperFeedback_contentOverlayBackground, 0);
-            }
-
-            mShowErrorStateOnBackEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorStateOnBack, false);
-            mShowErrorStateOnBackEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorStateOnBackEnabled, mShowErrorStateOnBackEnabled);
-
-            mShowErrorMessageEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorMessageEnabled, false);
-
-            mTabNavigationEnabled = a.getBoolean(R.styleable.StepperLayout_ms_tabNavigationEnabled, true);
-
-            mStepperLayoutTheme = a.getResourceId(R.styleable.StepperLayout_ms_stepperLayoutTheme, R.style.MSDefaultStepperLayoutTheme);
-
-            a.recycle();
-        }
-    }
-
-    private void initDefaultValues() {
-        mBackButtonColor = mNextButtonColor = mCompleteButtonColor =
-                ContextCompat.getColorStateList(getContext(), R.color.ms_bottomNavigationButtonTextColor);
-        mSelectedColor = ContextCompat.getColor(getContext(), R.color.ms_selectedColor);
-        mUnselectedColor = ContextCompat.getColor(getContext(), R.color.ms_unselectedColor);
-        mErrorColor = ContextCompat.getColor(getContext(), R.color.ms_errorColor);
-        mBackButtonText = getContext().getString(R.string.ms_back);
-        mNextButtonText = getContext().getString(R.string.ms_next);
-        mCompleteButtonText = getContext().getString(R.string.ms_complete);
+    private void applyStyle(@NonNull StepperStyle style) {
+        mStyle = style;
+        mBackButtonColor = style.getBackButtonColor();
+        mNextButtonColor = style.getNextButtonColor();
+        mCompleteButtonColor = style.getCompleteButtonColor();
+        mSelectedColor = style.getSelectedColor();
+        mUnselectedColor = style.getUnselectedColor();
+        mErrorColor = style.getErrorColor();
+        mBottomNavigationBackground = style.getBottomNavigationBackground();
+        mBackButtonBackground = style.getBackButtonBackground();
+        mNextButtonBackground = style.getNextButtonBackground();
+        mCompleteButtonBackground = style.getCompleteButtonBackground();
+        mBackButtonText = style.getBackButtonText();
+        mNextButtonText = style.getNextButtonText();
+        mCompleteButtonText = style.getCompleteButtonText();
+        mAsyncVerificationProgressMessage = style.getAsyncVerificationProgressMessage();
+        mTabStepDividerWidth = style.getTabStepDividerWidth();
+        mShowBackButtonOnFirstStep = style.isShowBackButtonOnFirstStep();
+        mShowBottomNavigation = style.isShowBottomNavigation();
+        mShowErrorStateEnabled = style.isShowErrorStateEnabled();
+        mShowErrorStateOnBackEnabled = style.isShowErrorStateOnBackEnabled();
+        mShowErrorMessageEnabled = style.isShowErrorMessageEnabled();
+        mTabNavigationEnabled = style.isTabNavigationEnabled();
+        mTypeIdentifier = style.getTypeIdentifier();
+        mFeedbackTypeMask = style.getFeedbackTypeMask();
+        mContentFadeAlpha = style.getContentFadeAlpha();
+        mContentOverlayBackground = style.getContentOverlayBackground();
+        mStepperLayoutTheme = style.getStepperLayoutTheme();
     }
 
     private boolean isLastPosition(int position) {
@@ -942,17 +2076,32 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         updateError(mShowErrorStateOnBackEnabled ? mStepperType.getErrorAtPosition(mCurrentStepPosition) : null);
     }
 
+    private boolean canVerifyInPlace(@Nullable Step step) {
+        return step != null && !(step instanceof BlockingStep) && !(step instanceof AsyncStep);
+    }
+
     @UiThread
     private void onNext() {
         Step step = findCurrentStep();
 
+        if (step instanceof AsyncStep) {
+            verifyCurrentStepAsync((AsyncStep) step, false);
+            return;
+        }
+
         if (verifyCurrentStep(step)) {
             invalidateCurrentPosition();
+            endNavigationRequest(mNavigationRequestId);
             return;
         }
 
+        onNextVerified(step);
+    }
+
+    private void onNextVerified(Step step) {
         OnNextClickedCallback onNextClickedCallback = new OnNextClickedCallback();
         if (step instanceof BlockingStep) {
+            mMetricsRecorder.onBlockingStarted();
             ((BlockingStep) step).onNextClicked(onNextClickedCallback);
         } else {
             onNextClickedCallback.goToNextStep();
@@ -961,13 +2110,42 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
     private void invalidateCurrentPosition() {
         mStepperType.onStepSelected(mCurrentStepPosition, false);
+        notifyStateChanged();
     }
 
     private boolean verifyCurrentStep(Step step) {
+        final boolean traced = TraceUtil.beginSection(TRACE_VERIFY_CURRENT_STEP);
+        try {
+            mMetricsRecorder.onVerificationStarted();
+            final VerificationError verificationError = verifyStep(mCurrentStepPosition, step);
+            mMetricsRecorder.onVerificationFinished(mCurrentStepPosition, verificationError != null);
+            return onVerificationResult(step, verificationError);
+        } finally {
+            TraceUtil.endSection(traced);
+        }
+    }
+
+    @Nullable
+    private VerificationError verifyStep(int stepPosition, @NonNull Step step) {
+        if (!(step instanceof CacheableStep)) {
+            return step.verifyStep();
+        }
+
+        final long fingerprint = ((CacheableStep) step).getInputFingerprint();
+        if (mVerificationResultCache.contains(stepPosition, fingerprint)) {
+            return mVerificationResultCache.get(stepPosition);
+        }
+
         final VerificationError verificationError = step.verifyStep();
+        mVerificationResultCache.put(stepPosition, fingerprint, verificationError);
+        return verificationError;
+    }
+
+    private boolean onVerificationResult(Step step, @Nullable VerificationError verificationError) {
         boolean result = false;
         if (verificationError != null) {
-            onError(verificationError);
+            recordEvent(StepperEventSink.EVENT_VERIFICATION_FAILED, mCurrentStepPosition, verificationError.getCode());
+            onError(step, verificationError);
             result = true;
         }
 
@@ -975,12 +2153,358 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
         return result;
     }
 
+    private void verifyCurrentStepAsync(@NonNull final AsyncStep step, final boolean completing) {
+        if (mAsyncStepVerifier.isVerifying()) {
+            endNavigationRequest(mNavigationRequestId);
+            return;
+        }
+
+        mMetricsRecorder.onVerificationStarted();
+        final int stepPosition = mCurrentStepPosition;
+        final boolean cacheable = step instanceof CacheableStep;
+        final long fingerprint = cacheable ? ((CacheableStep) step).getInputFingerprint() : 0L;
+        if (cacheable && mVerificationResultCache.contains(stepPosition, fingerprint)) {
+            onAsyncVerificationResult(step, mVerificationResultCache.get(stepPosition), completing);
+            return;
+        }
+
+        mAsyncVerificationProgressShown = !mInProgress;
+        showProgress(mAsyncVerificationProgressMessage);
+        mAsyncStepVerifier.verify(step, new AsyncStepVerifier.Callback() {
+            @Override
+            public void onVerified(@Nullable VerificationError error) {
+                if (cacheable) {
+                    mVerificationResultCache.put(stepPosition, fingerprint, error);
+                }
+                hideAsyncVerificationProgress();
+                onAsyncVerificationResult(step, error, completing);
+            }
+
+            @Override
+            public void onTimedOut() {
+                hideAsyncVerificationProgress();
+                onAsyncVerificationResult(step, new VerificationError(getContext().getString(R.string.ms_verification_timed_out)), completing);
+            }
+        });
+    }
+
+    private void onAsyncVerificationResult(@NonNull Step step, @Nullable VerificationError error, boolean completing) {
+        mMetricsRecorder.onVerificationFinished(mCurrentStepPosition, error != null);
+        if (onVerificationResult(step, error)) {
+            invalidateCurrentPosition();
+            endNavigationRequest(mNavigationRequestId);
+        } else if (completing) {
+            onCompleteVerified(step);
+        } else {
+            onNextVerified(step);
+        }
+    }
+
+    private void validateCurrentStepLive() {
+        final Step step = findCurrentStep();
+        if (step == null) {
+            return;
+        }
+
+        final int stepPosition = mCurrentStepPosition;
+        if (!(step instanceof AsyncStep)) {
+            postLiveValidationResult(stepPosition, verifyStep(stepPosition, step));
+            return;
+        }
+
+        final boolean cacheable = step instanceof CacheableStep;
+        final long fingerprint = cacheable ? ((CacheableStep) step).getInputFingerprint() : 0L;
+        if (cacheable && mVerificationResultCache.contains(stepPosition, fingerprint)) {
+            postLiveValidationResult(stepPosition, mVerificationResultCache.get(stepPosition));
+            return;
+        }
+
+        mLiveStepVerifier.verify((AsyncStep) step, new AsyncStepVerifier.Callback() {
+            @Override
+            public void onVerified(@Nullable VerificationError error) {
+                if (cacheable) {
+                    mVerificationResultCache.put(stepPosition, fingerprint, error);
+                }
+                postLiveValidationResult(stepPosition, error);
+            }
+
+            @Override
+            public void onTimedOut() {
+                // the result is unknown so the current state is kept
+            }
+        });
+    }
+
+    private void postLiveValidationResult(int stepPosition, @Nullable VerificationError error) {
+        mLiveValidationResultPosition = stepPosition;
+        mLiveValidationResult = error;
+        if (!mLiveValidationResultPosted) {
+            mLiveValidationResultPosted = true;
+            ViewCompat.postOnAnimation(this, mApplyLiveValidationResultRunnable);
+        }
+    }
+
+    private void applyLiveValidationResult() {
+        final VerificationError error = mLiveValidationResult;
+        mLiveValidationResult = null;
+        if (mLiveValidationResultPosition != mCurrentStepPosition) {
+            return;
+        }
+
+        final boolean verificationFailed = error != null;
+        mNextNavigationButton.setVerificationFailed(verificationFailed);
+        mCompleteNavigationButton.setVerificationFailed(verificationFailed);
+        notifyStateChanged();
+
+        if (!ObjectsCompat.equals(error, mStepperType.getErrorAtPosition(mCurrentStepPosition))) {
+            updateErrorState(error);
+        }
+    }
+
+    private void cancelLiveValidation() {
+        removeCallbacks(mLiveValidationRunnable);
+        removeCallbacks(mApplyLiveValidationResultRunnable);
+        mLiveValidationResultPosted = false;
+        mLiveValidationResult = null;
+        mLiveStepVerifier.cancel();
+    }
+
+    private void cancelAsyncVerification() {
+        if (mAsyncStepVerifier.isVerifying()) {
+            mAsyncStepVerifier.cancel();
+            hideAsyncVerificationProgress();
+        }
+    }
+
+    private void requestNavigation(int navigationRequest) {
+        if (mNavigationPolicy == NAVIGATION_POLICY_ALLOW) {
+            performNavigation(navigationRequest);
+            return;
+        }
+
+        if (!mNavigationRequestInFlight) {
+            startNavigationRequest(navigationRequest);
+            return;
+        }
+
+        if (navigationRequest == NAVIGATION_REQUEST_BACK && mInFlightNavigationRequest != NAVIGATION_REQUEST_BACK) {
+            // Back interrupts a Next/Complete request in flight
+            mCoalescedNavigationRequestCount += mPendingNavigationRequests.size();
+            mPendingNavigationRequests.clear();
+            startNavigationRequest(navigationRequest);
+            return;
+        }
+
+        switch (mNavigationPolicy) {
+            case NAVIGATION_POLICY_QUEUE:
+                mPendingNavigationRequests.add(navigationRequest);
+                break;
+            case NAVIGATION_POLICY_LATEST:
+                mCoalescedNavigationRequestCount += mPendingNavigationRequests.size();
+                mPendingNavigationRequests.clear();
+                mPendingNavigationRequests.add(navigationRequest);
+                break;
+            case NAVIGATION_POLICY_DROP:
+            default:
+                mCoalescedNavigationRequestCount++;
+                break;
+        }
+    }
+
+    private void startNavigationRequest(int navigationRequest) {
+        mNavigationRequestId++;
+        mNavigationRequestInFlight = true;
+        mInFlightNavigationRequest = navigationRequest;
+        mNavigationRequestEndOnIdle = false;
+        mNavigationRequestEndPosted = false;
+        removeCallbacks(mEndNavigationRequestRunnable);
+        performNavigation(navigationRequest);
+    }
+
+    private void performNavigation(int navigationRequest) {
+        mMetricsRecorder.onNavigationStarted(navigationRequest, mCurrentStepPosition);
+        switch (navigationRequest) {
+            case NAVIGATION_REQUEST_NEXT:
+                onNext();
+                break;
+            case NAVIGATION_REQUEST_COMPLETE:
+                onComplete();
+                break;
+            case NAVIGATION_REQUEST_BACK:
+            default:
+                goBack();
+                break;
+        }
+    }
+
+    /**
+     * Marks the navigation request with the given ID as finished. The request is considered in flight
+     * until the page transition started by it ends.
+     *
+     * @param navigationRequestId ID of the request, ignored if it is not the latest request
+     */
+    private void endNavigationRequest(int navigationRequestId) {
+        if (!mNavigationRequestInFlight || navigationRequestId != mNavigationRequestId || mNavigationRequestEndPosted) {
+            return;
+        }
+        mNavigationRequestEndPosted = true;
+        // posted so that the page transition started by the request is already running
+        post(mEndNavigationRequestRunnable);
+    }
+
+    /**
+     * Ends the navigation request in flight if it is waiting for a {@link BlockingStep} callback.
+     * The callback stays valid, so the step can still finish the operation later.
+     */
+    private void endBlockedNavigationRequest() {
+        if (!mNavigationRequestInFlight) {
+            return;
+        }
+        for (int i = 0, size = mPendingCallbacks.size(); i < size; i++) {
+            if (mPendingCallbacks.get(i).mNavigationRequestId == mNavigationRequestId) {
+                endNavigationRequest(mNavigationRequestId);
+                return;
+            }
+        }
+    }
+
+    private void finishNavigationRequest() {
+        mNavigationRequestInFlight = false;
+        mNavigationRequestEndOnIdle = false;
+        final Integer nextNavigationRequest = mPendingNavigationRequests.poll();
+        if (nextNavigationRequest != null) {
+            startNavigationRequest(nextNavigationRequest);
+        }
+    }
+
+    private void resetNavigationRequests() {
+        mNavigationRequestInFlight = false;
+        mNavigationRequestEndOnIdle = false;
+        mNavigationRequestEndPosted = false;
+        mPendingNavigationRequests.clear();
+        removeCallbacks(mEndNavigationRequestRunnable);
+    }
+
+    /**
+     * Schedules notifying the state listeners. Does nothing if there are no listeners or if it is already scheduled.
+     */
+    private void notifyStateChanged() {
+        if (mStateListeners.isEmpty() || mStateDispatchPosted) {
+            return;
+        }
+        mStateDispatchPosted = true;
+        post(mDispatchStateRunnable);
+    }
+
+    private void dispatchState() {
+        if (mStateListeners.isEmpty()) {
+            return;
+        }
+        final StepperState state = getState();
+        final StateListener[] listeners = mStateListeners.toArray(new StateListener[mStateListeners.size()]);
+        for (StateListener listener : listeners) {
+            listener.onStateChanged(state);
+        }
+    }
+
+    /**
+     * Asks the {@link PrefetchingStep}s next to the current step to prefetch their data
+     * and cancels prefetching of the steps which are no longer next to it.
+     *
+     * @param stepPosition current step position
+     */
+    private void updatePrefetchedSteps(int stepPosition) {
+        boolean prefetched = false;
+        for (int i = mPrefetchedSteps.size() - 1; i >= 0; i--) {
+            final int prefetchedStepPosition = mPrefetchedSteps.keyAt(i);
+            if (prefetchedStepPosition == stepPosition) {
+                // the step got selected so the prefetched data is going to be used
+                mPrefetchedSteps.removeAt(i);
+                prefetched = true;
+            } else if (Math.abs(prefetchedStepPosition - stepPosition) > 1) {
+                final PrefetchingStep prefetchedStep = mPrefetchedSteps.valueAt(i);
+                mPrefetchedSteps.removeAt(i);
+                prefetchedStep.onPrefetchCancelled();
+            }
+        }
+        if (mMetricsRecorder.isEnabled() && mStepAdapter.findStep(stepPosition) instanceof PrefetchingStep) {
+            mMetricsRecorder.onPrefetchResult(stepPosition, prefetched);
+        }
+        prefetchStep(stepPosition - 1);
+        prefetchStep(stepPosition + 1);
+    }
+
+    private void prefetchStep(int stepPosition) {
+        if (stepPosition < 0 || stepPosition >= mStepAdapter.getCount() || mPrefetchedSteps.get(stepPosition) != null) {
+            return;
+        }
+        final Step step = mStepAdapter.findStep(stepPosition);
+        if (step instanceof PrefetchingStep) {
+            final PrefetchingStep prefetchingStep = (PrefetchingStep) step;
+            mPrefetchedSteps.put(stepPosition, prefetchingStep);
+            prefetchingStep.onPrefetch(mBackgroundExecutor);
+        }
+    }
+
+    private void recordEvent(int type, int stepPosition, int value) {
+        if (mEventRecorder != null) {
+            mEventRecorder.record(type, stepPosition, value);
+        }
+    }
+
+    private void flushEvents() {
+        if (mEventRecorder != null) {
+            mEventRecorder.flush();
+        }
+    }
+
+    private void enterStep(int stepPosition) {
+        if (mEventRecorder == null || mEnteredStepPosition == stepPosition) {
+            return;
+        }
+        leaveEnteredStep();
+        mEnteredStepPosition = stepPosition;
+        mEventRecorder.record(StepperEventSink.EVENT_STEP_ENTERED, stepPosition, 0);
+    }
+
+    private void leaveEnteredStep() {
+        if (mEnteredStepPosition != -1) {
+            recordEvent(StepperEventSink.EVENT_STEP_LEFT, mEnteredStepPosition, 0);
+            mEnteredStepPosition = -1;
+        }
+    }
+
+    private void cancelPrefetching() {
+        for (int i = 0; i < mPrefetchedSteps.size(); i++) {
+            mPrefetchedSteps.valueAt(i).onPrefetchCancelled();
+        }
+        mPrefetchedSteps.clear();
+    }
+
+    /**
+     * Cancels the operations started by {@link BlockingStep}s which have not finished yet.
+     */
+    private void cancelPendingCallbacks() {
+        for (int i = mPendingCallbacks.size() - 1; i >= 0; i--) {
+            if (i < mPendingCallbacks.size()) {
+                mPendingCallbacks.get(i).cancel();
+            }
+        }
+    }
+
+    private void hideAsyncVerificationProgress() {
+        if (mAsyncVerificationProgressShown) {
+            mAsyncVerificationProgressShown = false;
+            hideProgress();
+        }
+    }
+
     private void updateError(@Nullable VerificationError error) {
         mStepperType.setError(mCurrentStepPosition, error);
+        notifyStateChanged();
     }
 
-    private void onError(@NonNull VerificationError verificationError) {
-        Step step = findCurrentStep();
+    private void onError(@Nullable Step step, @NonNull VerificationError verificationError) {
         if (step != null) {
             step.onError(verificationError);
         }
@@ -989,13 +2513,25 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
 
     private void onComplete() {
         Step step = findCurrentStep();
+
+        if (step instanceof AsyncStep) {
+            verifyCurrentStepAsync((AsyncStep) step, true);
+            return;
+        }
+
         if (verifyCurrentStep(step)) {
             invalidateCurrentPosition();
+            endNavigationRequest(mNavigationRequestId);
             return;
         }
 
+        onCompleteVerified(step);
+    }
+
+    private void onCompleteVerified(Step step) {
         OnCompleteClickedCallback onCompleteClickedCallback = new OnCompleteClickedCallback();
         if (step instanceof BlockingStep) {
+            mMetricsRecorder.onBlockingStarted();
             ((BlockingStep) step).onCompleteClicked(onCompleteClickedCallback);
         } else {
             onCompleteClickedCallback.complete();
@@ -1003,37 +2539,55 @@ public class StepperLayout extends LinearLayout implements TabsContainer.TabItem
     }
 
     private void onUpdate(int newStepPosition, boolean userTriggeredChange) {
-        mPager.setCurrentItem(newStepPosition);
-        final boolean isLast = isLastPosition(newStepPosition);
-        final boolean isFirst = newStepPosition == 0;
-        final StepViewModel viewModel = mStepAdapter.getViewModel(newStepPosition);
+        final boolean traced = TraceUtil.beginSection(TRACE_ON_UPDATE);
+        try {
+            mMetricsRecorder.onUpdateStarted();
+            cancelLiveValidation();
+            final int previousStepPosition = mPager.getCurrentItem();
+            mPager.setCurrentItem(newStepPosition);
+            if (mTransitionFrameMonitor != null && previousStepPosition != newStepPosition) {
+                mTransitionFrameMonitor.start(previousStepPosition, newStepPosition, userTriggeredChange);
+                if (mPagerScrollState == ViewPager.SCROLL_STATE_IDLE) {
+                    mTransitionFrameMonitor.onPagerIdle();
+                }
+            }
+            final boolean isLast = isLastPosition(newStepPosition);
+            final boolean isFirst = newStepPosition == 0;
+            final StepViewModel viewModel = mStepAdapter.getViewModel(newStepPosition);
 
-        int backButtonTargetVisibility = (isFirst && !mShowBackButtonOnFirstStep) || !viewModel.isBackButtonVisible() ? View.GONE : View.VISIBLE;
-        int nextButtonVisibility = isLast || !viewModel.isEndButtonVisible() ? View.GONE : View.VISIBLE;
-        int completeButtonVisibility = !isLast || !viewModel.isEndButtonVisible() ? View.GONE : View.VISIBLE;
-        int colres = !isLast || !viewModel.isEndButtonVisible() ? 0 : R.color.ms_color_green;
+            int backButtonTargetVisibility = (isFirst && !mShowBackButtonOnFirstStep) || !viewModel.isBackButtonVisible() ? View.GONE : View.VISIBLE;
+            int nextButtonVisibility = isLast || !viewModel.isEndButtonVisible() ? View.GONE : View.VISIBLE;
+            int completeButtonVisibility = !isLast || !viewModel.isEndButtonVisible() ? View.GONE : View.VISIBLE;
+            int colres = !isLast || !viewModel.isEndButtonVisible() ? 0 : R.color.ms_color_green;
 
-        AnimationUtil.fadeViewVisibility(mNextNavigationButton, nextButtonVisibility, userTriggeredChange);
-        AnimationUtil.fadeViewVisibility(mCompleteNavigationButton, completeButtonVisibility, userTriggeredChange);
-        AnimationUtil.fadeViewVisibility(mBackNavigationButton, backButtonTargetVisibility, userTriggeredChange);
+            AnimationUtil.fadeViewVisibility(mNextNavigationButton, nextButtonVisibility, userTriggeredChange);
+            AnimationUtil.fadeViewVisibility(mCompleteNavigationButton, completeButtonVisibility, userTriggeredChange);
+            AnimationUtil.fadeViewVisibility(mBackNavigationButton, backButtonTargetVisibility, userTriggeredChange);
 
-        updateBackButton(viewModel);
+            updateBackButton(viewModel);
 
-        updateEndButton(viewModel.getEndButtonLabel(),
-                isLast ? mCompleteButtonText : mNextButtonText,
-                isLast ? mCompleteNavigationButton : mNextNavigationButton);
+            updateEndButton(viewModel.getEndButtonLabel(),
+                    isLast ? mCompleteButtonText : mNextButtonText,
+                    isLast ? mCompleteNavigationButton : mNextNavigationButton);
 
-        setCompoundDrawablesForNavigationButtons(viewModel.getBackButtonStartDrawableResId(), viewModel.getNextButtonEndDrawableResId());
+            setCompoundDrawablesForNavigationButtons(viewModel.getBackButtonStartDrawableResId(), viewModel.getNextButtonEndDrawableResId());
 
-        mStepperType.onStepSelected(newStepPosition, userTriggeredChange);
-        mListener.onStepSelected(newStepPosition);
-        Step step = mStepAdapter.findStep(newStepPosition);
-        if (step != null) {
-            step.onSelected();
-        }
-        if (colres != 0) {
-            Log.e("STEPPERLAYOUT","colres=="+colres);
-            mCompleteNavigationButton.setTextColor(ContextCompat.getColor(getContext(), R.color.ms_color_green));
+            mStepperType.onStepSelected(newStepPosition, userTriggeredChange);
+            mListener.onStepSelected(newStepPosition);
+            Step step = mStepAdapter.findStep(newStepPosition);
+            if (step != null) {
+                step.onSelected();
+            }
+            updatePrefetchedSteps(newStepPosition);
+            enterStep(newStepPosition);
+            if (colres != 0) {
+                Log.e("STEPPERLAYOUT","colres=="+colres);
+                mCompleteNavigationButton.setTextColor(ContextCompat.getColor(getContext(), R.color.ms_color_green));
+            }
+            notifyStateChanged();
+            mMetricsRecorder.onUpdateFinished(newStepPosition, mPagerScrollState != ViewPager.SCROLL_STATE_IDLE);
+        } finally {
+            TraceUtil.endSection(traced);
         }
     }
 
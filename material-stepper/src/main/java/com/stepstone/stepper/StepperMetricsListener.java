@@ -0,0 +1,68 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.UiThread;
+
+/**
+ * A listener for navigation latency metrics of {@link StepperLayout}.<br>
+ * All of the callbacks take only primitive arguments so that measuring does not allocate.
+ * Times are in nanoseconds as measured by {@link System#nanoTime()}.
+ *
+ * @see StepperLayout#setMetricsListener(StepperMetricsListener)
+ */
+public interface StepperMetricsListener {
+
+    int NAVIGATION_NEXT = 0;
+
+    int NAVIGATION_COMPLETE = 1;
+
+    int NAVIGATION_BACK = 2;
+
+    /**
+     * Called when a Next/Complete/Back navigation finished.
+     *
+     * @param navigationType    one of {@link #NAVIGATION_NEXT}, {@link #NAVIGATION_COMPLETE} or {@link #NAVIGATION_BACK}
+     * @param fromStepPosition  position of the step the navigation started at
+     * @param toStepPosition    position of the step the navigation ended at
+     * @param verificationNanos time spent verifying the step, 0 if it was not verified
+     * @param blockingNanos     time the {@link BlockingStep} held the callback, 0 if the step is not a {@link BlockingStep}
+     * @param updateNanos       time spent updating the layout for the new position, 0 when completing
+     * @param settleNanos       time from the start of the update until the page transition ended, 0 if there was no transition
+     */
+    @UiThread
+    void onNavigationMeasured(int navigationType, int fromStepPosition, int toStepPosition,
+                              long verificationNanos, long blockingNanos, long updateNanos, long settleNanos);
+
+    /**
+     * Called when a step failed the verification during a Next/Complete navigation.
+     *
+     * @param stepPosition position of the step
+     */
+    @UiThread
+    void onVerificationError(int stepPosition);
+
+    /**
+     * Called when a {@link PrefetchingStep} gets selected.
+     *
+     * @param stepPosition position of the step
+     * @param hit          true if the step was asked to prefetch its data before it got selected, false otherwise
+     */
+    @UiThread
+    void onPrefetchResult(int stepPosition, boolean hit);
+
+}
@@ -0,0 +1,130 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.SparseArray;
+
+/**
+ * An immutable snapshot of the state of {@link StepperLayout}.
+ *
+ * @see StepperLayout#getState()
+ * @see StepperLayout#addStateListener(StepperLayout.StateListener)
+ */
+public final class StepperState {
+
+    private final int mCurrentStepPosition;
+
+    private final int mStepCount;
+
+    @NonNull
+    private final SparseArray<VerificationError> mStepErrors;
+
+    private final boolean mInProgress;
+
+    private final boolean mBackButtonEnabled;
+
+    private final boolean mNextButtonEnabled;
+
+    private final boolean mCompleteButtonEnabled;
+
+    private final boolean mNextButtonVerificationFailed;
+
+    private final boolean mCompleteButtonVerificationFailed;
+
+    StepperState(int currentStepPosition, int stepCount, @NonNull SparseArray<VerificationError> stepErrors,
+                 boolean inProgress, boolean backButtonEnabled, boolean nextButtonEnabled, boolean completeButtonEnabled,
+                 boolean nextButtonVerificationFailed, boolean completeButtonVerificationFailed) {
+        this.mCurrentStepPosition = currentStepPosition;
+        this.mStepCount = stepCount;
+        this.mStepErrors = stepErrors;
+        this.mInProgress = inProgress;
+        this.mBackButtonEnabled = backButtonEnabled;
+        this.mNextButtonEnabled = nextButtonEnabled;
+        this.mCompleteButtonEnabled = completeButtonEnabled;
+        this.mNextButtonVerificationFailed = nextButtonVerificationFailed;
+        this.mCompleteButtonVerificationFailed = completeButtonVerificationFailed;
+    }
+
+    public int getCurrentStepPosition() {
+        return mCurrentStepPosition;
+    }
+
+    /**
+     * @return number of steps in the adapter, 0 if no adapter is set
+     */
+    public int getStepCount() {
+        return mStepCount;
+    }
+
+    /**
+     * Returns the error of the step at the given position.
+     *
+     * @param stepPosition step position
+     * @return verification error or null if the step has no error
+     */
+    @Nullable
+    public VerificationError getError(int stepPosition) {
+        return mStepErrors.get(stepPosition);
+    }
+
+    /**
+     * @return number of steps which have an error
+     */
+    public int getErrorCount() {
+        return mStepErrors.size();
+    }
+
+    /**
+     * Returns the position of the step with an error at the given index, from <code>0</code> to {@link #getErrorCount()} - 1.
+     *
+     * @param index index of the step with an error
+     * @return step position
+     */
+    public int getErrorPositionAt(int index) {
+        return mStepErrors.keyAt(index);
+    }
+
+    /**
+     * @see StepperLayout#isInProgress()
+     */
+    public boolean isInProgress() {
+        return mInProgress;
+    }
+
+    public boolean isBackButtonEnabled() {
+        return mBackButtonEnabled;
+    }
+
+    public boolean isNextButtonEnabled() {
+        return mNextButtonEnabled;
+    }
+
+    public boolean isCompleteButtonEnabled() {
+        return mCompleteButtonEnabled;
+    }
+
+    public boolean isNextButtonVerificationFailed() {
+        return mNextButtonVerificationFailed;
+    }
+
+    public boolean isCompleteButtonVerificationFailed() {
+        return mCompleteButtonVerificationFailed;
+    }
+
+}
@@ -0,0 +1,510 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.support.annotation.AttrRes;
+import android.support.annotation.ColorInt;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.FloatRange;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.StyleRes;
+import android.support.annotation.UiThread;
+import android.support.v4.content.ContextCompat;
+import android.util.AttributeSet;
+
+import com.stepstone.stepper.internal.feedback.StepperFeedbackType;
+import com.stepstone.stepper.internal.type.AbstractStepperType;
+import com.stepstone.stepper.internal.util.AnimationUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable configuration of a {@link StepperLayout} resolved from its attributes, style and theme:
+ * colors, texts, backgrounds, stepper type and feedback type mask and the theme used for the layout's views.<br>
+ * Resolved styles are cached per theme, default style attribute and the values of the stepper attributes in the attribute set,
+ * so creating many {@link StepperLayout}s with the same configuration resolves the attributes only once.
+ * The cache does not notice changes made to a theme after a style was resolved with it, call {@link #clearCache()} in that case.
+ *
+ * @see StepperLayout#getStyle()
+ * @see StepperLayout.Builder
+ */
+public final class StepperStyle {
+
+    /**
+     * Identifies a resolved style within a theme.
+     */
+    private static final class Key {
+
+        private static final int[] NO_ATTRIBUTES = new int[0];
+
+        private static final String[] NO_VALUES = new String[0];
+
+        private final int mDefStyleAttr;
+
+        private final int mStyleRes;
+
+        /**
+         * False for layouts created without attributes, these do not resolve any of the stepper attributes.
+         */
+        private final boolean mResolved;
+
+        @NonNull
+        private final int[] mAttributes;
+
+        @NonNull
+        private final String[] mValues;
+
+        private final int mHashCode;
+
+        Key(int styleRes) {
+            this(0, styleRes, true, NO_ATTRIBUTES, NO_VALUES);
+        }
+
+        private Key(int defStyleAttr, int styleRes, boolean resolved, @NonNull int[] attributes, @NonNull String[] values) {
+            this.mDefStyleAttr = defStyleAttr;
+            this.mStyleRes = styleRes;
+            this.mResolved = resolved;
+            this.mAttributes = attributes;
+            this.mValues = values;
+            this.mHashCode = computeHashCode();
+        }
+
+        Key(int defStyleAttr, @Nullable AttributeSet attrs) {
+            this.mDefStyleAttr = defStyleAttr;
+            this.mResolved = attrs != null;
+            if (attrs == null) {
+                mStyleRes = 0;
+                mAttributes = NO_ATTRIBUTES;
+                mValues = NO_VALUES;
+            } else {
+                mStyleRes = attrs.getStyleAttribute();
+                // only the attributes of StepperLayout affect the resolved style
+                final int attributeCount = attrs.getAttributeCount();
+                final int[] attributes = new int[attributeCount];
+                final String[] values = new String[attributeCount];
+                int stepperAttributeCount = 0;
+                for (int i = 0; i < attributeCount; i++) {
+                    final int attribute = attrs.getAttributeNameResource(i);
+                    if (attribute != 0 && Arrays.binarySearch(R.styleable.StepperLayout, attribute) >= 0) {
+                        attributes[stepperAttributeCount] = attribute;
+                        values[stepperAttributeCount] = attrs.getAttributeValue(i);
+                        stepperAttributeCount++;
+                    }
+                }
+                mAttributes = Arrays.copyOf(attributes, stepperAttributeCount);
+                mValues = Arrays.copyOf(values, stepperAttributeCount);
+            }
+            this.mHashCode = computeHashCode();
+        }
+
+        private int computeHashCode() {
+            int hashCode = mDefStyleAttr;
+            hashCode = 31 * hashCode + mStyleRes;
+            hashCode = 31 * hashCode + (mResolved ? 1 : 0);
+            hashCode = 31 * hashCode + Arrays.hashCode(mAttributes);
+            hashCode = 31 * hashCode + Arrays.hashCode(mValues);
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return mHashCode == key.mHashCode
+                    && mDefStyleAttr == key.mDefStyleAttr
+                    && mStyleRes == key.mStyleRes
+                    && mResolved == key.mResolved
+                    && Arrays.equals(mAttributes, key.mAttributes)
+                    && Arrays.equals(mValues, key.mValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+    }
+
+    private static final Map<Resources.Theme, Map<Key, StepperStyle>> sCache = new WeakHashMap<>();
+
+    private ColorStateList mBackButtonColor;
+
+    private ColorStateList mNextButtonColor;
+
+    private ColorStateList mCompleteButtonColor;
+
+    @ColorInt
+    private int mUnselectedColor;
+
+    @ColorInt
+    private int mSelectedColor;
+
+    @ColorInt
+    private int mErrorColor;
+
+    @DrawableRes
+    private int mBottomNavigationBackground;
+
+    @DrawableRes
+    private int mBackButtonBackground;
+
+    @DrawableRes
+    private int mNextButtonBackground;
+
+    @DrawableRes
+    private int mCompleteButtonBackground;
+
+    private int mTabStepDividerWidth = StepperLayout.DEFAULT_TAB_DIVIDER_WIDTH;
+
+    private String mBackButtonText;
+
+    private String mNextButtonText;
+
+    private String mCompleteButtonText;
+
+    private String mAsyncVerificationProgressMessage;
+
+    private boolean mShowBackButtonOnFirstStep;
+
+    private boolean mShowBottomNavigation;
+
+    private boolean mShowErrorStateEnabled;
+
+    private boolean mShowErrorStateOnBackEnabled;
+
+    private boolean mShowErrorMessageEnabled;
+
+    private boolean mTabNavigationEnabled;
+
+    private int mTypeIdentifier = AbstractStepperType.PROGRESS_BAR;
+
+    private int mFeedbackTypeMask = StepperFeedbackType.NONE;
+
+    @FloatRange(from = 0.0f, to = 1.0f)
+    private float mContentFadeAlpha = AnimationUtil.ALPHA_HALF;
+
+    @DrawableRes
+    private int mContentOverlayBackground;
+
+    @StyleRes
+    private int mStepperLayoutTheme;
+
+    private StepperStyle() {
+    }
+
+    /**
+     * Returns the style for a {@link StepperLayout} created with the given arguments,
+     * resolving it only if there is no cached style for the same theme, default style attribute and attribute values.
+     *
+     * @param context      context of the stepper layout, its theme is used to resolve the attributes
+     * @param attrs        attributes of the stepper layout, null if it is created from code
+     * @param defStyleAttr default style attribute
+     * @return the resolved style
+     */
+    @NonNull
+    @UiThread
+    public static StepperStyle obtain(@NonNull Context context, @Nullable AttributeSet attrs, @AttrRes int defStyleAttr) {
+        final Map<Key, StepperStyle> themeStyles = getThemeStyles(context.getTheme());
+        final Key key = new Key(defStyleAttr, attrs);
+        StepperStyle style = themeStyles.get(key);
+        if (style == null) {
+            style = resolve(context, attrs, defStyleAttr, 0, attrs != null);
+            themeStyles.put(key, style);
+        }
+        return style;
+    }
+
+    /**
+     * Returns the style defined by a style resource with the stepper attributes, e.g. for {@link StepperLayout.Builder}.
+     * Attributes which are not set in the style resource have the same defaults as in XML.
+     *
+     * @param context  context whose theme is used to resolve the attributes
+     * @param styleRes style resource with the stepper attributes, 0 for the defaults
+     * @return the resolved style
+     */
+    @NonNull
+    @UiThread
+    public static StepperStyle obtain(@NonNull Context context, @StyleRes int styleRes) {
+        final Map<Key, StepperStyle> themeStyles = getThemeStyles(context.getTheme());
+        final Key key = new Key(styleRes);
+        StepperStyle style = themeStyles.get(key);
+        if (style == null) {
+            style = resolve(context, null, 0, styleRes, true);
+            themeStyles.put(key, style);
+        }
+        return style;
+    }
+
+    /**
+     * Clears the cache of the resolved styles, e.g. after a theme was modified.
+     */
+    @UiThread
+    public static void clearCache() {
+        sCache.clear();
+    }
+
+    @NonNull
+    private static Map<Key, StepperStyle> getThemeStyles(@NonNull Resources.Theme theme) {
+        Map<Key, StepperStyle> themeStyles = sCache.get(theme);
+        if (themeStyles == null) {
+            themeStyles = new HashMap<>();
+            sCache.put(theme, themeStyles);
+        }
+        return themeStyles;
+    }
+
+    @NonNull
+    private static StepperStyle resolve(@NonNull Context context, @Nullable AttributeSet attrs,
+                                        @AttrRes int defStyleAttr, @StyleRes int defStyleRes, boolean resolveAttributes) {
+        final StepperStyle style = new StepperStyle();
+        style.mBackButtonColor = style.mNextButtonColor = style.mCompleteButtonColor =
+                ContextCompat.getColorStateList(context, R.color.ms_bottomNavigationButtonTextColor);
+        style.mSelectedColor = ContextCompat.getColor(context, R.color.ms_selectedColor);
+        style.mUnselectedColor = ContextCompat.getColor(context, R.color.ms_unselectedColor);
+        style.mErrorColor = ContextCompat.getColor(context, R.color.ms_errorColor);
+        style.mBackButtonText = context.getString(R.string.ms_back);
+        style.mNextButtonText = context.getString(R.string.ms_next);
+        style.mCompleteButtonText = context.getString(R.string.ms_complete);
+        style.mAsyncVerificationProgressMessage = context.getString(R.string.ms_verification_in_progress);
+
+        if (resolveAttributes) {
+            style.extractValuesFromAttributes(context, attrs, defStyleAttr, defStyleRes);
+        }
+        return style;
+    }
+
+    private void extractValuesFromAttributes(@NonNull Context context, @Nullable AttributeSet attrs,
+                                             @AttrRes int defStyleAttr, @StyleRes int defStyleRes) {
+        final TypedArray a = context.obtainStyledAttributes(
+                attrs, R.styleable.StepperLayout, defStyleAttr, defStyleRes);
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_backButtonColor)) {
+            mBackButtonColor = a.getColorStateList(R.styleable.StepperLayout_ms_backButtonColor);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_nextButtonColor)) {
+            mNextButtonColor = a.getColorStateList(R.styleable.StepperLayout_ms_nextButtonColor);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_completeButtonColor)) {
+            mCompleteButtonColor = a.getColorStateList(R.styleable.StepperLayout_ms_completeButtonColor);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_activeStepColor)) {
+            mSelectedColor = a.getColor(R.styleable.StepperLayout_ms_activeStepColor, mSelectedColor);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_inactiveStepColor)) {
+            mUnselectedColor = a.getColor(R.styleable.StepperLayout_ms_inactiveStepColor, mUnselectedColor);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_errorColor)) {
+            mErrorColor = a.getColor(R.styleable.StepperLayout_ms_errorColor, mErrorColor);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_bottomNavigationBackground)) {
+            mBottomNavigationBackground = a.getResourceId(R.styleable.StepperLayout_ms_bottomNavigationBackground, 0);
+        }
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_backButtonBackground)) {
+            mBackButtonBackground = a.getResourceId(R.styleable.StepperLayout_ms_backButtonBackground, 0);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_nextButtonBackground)) {
+            mNextButtonBackground = a.getResourceId(R.styleable.StepperLayout_ms_nextButtonBackground, 0);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_completeButtonBackground)) {
+            mCompleteButtonBackground = a.getResourceId(R.styleable.StepperLayout_ms_completeButtonBackground, 0);
+        }
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_backButtonText)) {
+            mBackButtonText = a.getString(R.styleable.StepperLayout_ms_backButtonText);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_nextButtonText)) {
+            mNextButtonText = a.getString(R.styleable.StepperLayout_ms_nextButtonText);
+        }
+        if (a.hasValue(R.styleable.StepperLayout_ms_completeButtonText)) {
+            mCompleteButtonText = a.getString(R.styleable.StepperLayout_ms_completeButtonText);
+        }
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_tabStepDividerWidth)) {
+            mTabStepDividerWidth = a.getDimensionPixelOffset(R.styleable.StepperLayout_ms_tabStepDividerWidth, -1);
+        }
+
+        mShowBackButtonOnFirstStep = a.getBoolean(R.styleable.StepperLayout_ms_showBackButtonOnFirstStep, false);
+
+        mShowBottomNavigation = a.getBoolean(R.styleable.StepperLayout_ms_showBottomNavigation, true);
+
+        mShowErrorStateEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorState, false);
+        mShowErrorStateEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorStateEnabled, mShowErrorStateEnabled);
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_stepperType)) {
+            mTypeIdentifier = a.getInt(R.styleable.StepperLayout_ms_stepperType, AbstractStepperType.PROGRESS_BAR);
+        }
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_stepperFeedbackType)) {
+            mFeedbackTypeMask = a.getInt(R.styleable.StepperLayout_ms_stepperFeedbackType, StepperFeedbackType.NONE);
+        }
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_stepperFeedback_contentFadeAlpha)) {
+            mContentFadeAlpha = a.getFloat(R.styleable.StepperLayout_ms_stepperFeedback_contentFadeAlpha, AnimationUtil.ALPHA_HALF);
+        }
+
+        if (a.hasValue(R.styleable.StepperLayout_ms_stepperFeedback_contentOverlayBackground)) {
+            mContentOverlayBackground = a.getResourceId(R.styleable.StepperLayout_ms_stepperFeedback_contentOverlayBackground, 0);
+        }
+
+        mShowErrorStateOnBackEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorStateOnBack, false);
+        mShowErrorStateOnBackEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorStateOnBackEnabled, mShowErrorStateOnBackEnabled);
+
+        mShowErrorMessageEnabled = a.getBoolean(R.styleable.StepperLayout_ms_showErrorMessageEnabled, false);
+
+        mTabNavigationEnabled = a.getBoolean(R.styleable.StepperLayout_ms_tabNavigationEnabled, true);
+
+        mStepperLayoutTheme = a.getResourceId(R.styleable.StepperLayout_ms_stepperLayoutTheme, R.style.MSDefaultStepperLayoutTheme);
+
+        a.recycle();
+    }
+
+    public ColorStateList getBackButtonColor() {
+        return mBackButtonColor;
+    }
+
+    public ColorStateList getNextButtonColor() {
+        return mNextButtonColor;
+    }
+
+    public ColorStateList getCompleteButtonColor() {
+        return mCompleteButtonColor;
+    }
+
+    @ColorInt
+    public int getUnselectedColor() {
+        return mUnselectedColor;
+    }
+
+    @ColorInt
+    public int getSelectedColor() {
+        return mSelectedColor;
+    }
+
+    @ColorInt
+    public int getErrorColor() {
+        return mErrorColor;
+    }
+
+    @DrawableRes
+    public int getBottomNavigationBackground() {
+        return mBottomNavigationBackground;
+    }
+
+    @DrawableRes
+    public int getBackButtonBackground() {
+        return mBackButtonBackground;
+    }
+
+    @DrawableRes
+    public int getNextButtonBackground() {
+        return mNextButtonBackground;
+    }
+
+    @DrawableRes
+    public int getCompleteButtonBackground() {
+        return mCompleteButtonBackground;
+    }
+
+    public int getTabStepDividerWidth() {
+        return mTabStepDividerWidth;
+    }
+
+    public String getBackButtonText() {
+        return mBackButtonText;
+    }
+
+    public String getNextButtonText() {
+        return mNextButtonText;
+    }
+
+    public String getCompleteButtonText() {
+        return mCompleteButtonText;
+    }
+
+    public String getAsyncVerificationProgressMessage() {
+        return mAsyncVerificationProgressMessage;
+    }
+
+    public boolean isShowBackButtonOnFirstStep() {
+        return mShowBackButtonOnFirstStep;
+    }
+
+    public boolean isShowBottomNavigation() {
+        return mShowBottomNavigation;
+    }
+
+    public boolean isShowErrorStateEnabled() {
+        return mShowErrorStateEnabled;
+    }
+
+    public boolean isShowErrorStateOnBackEnabled() {
+        return mShowErrorStateOnBackEnabled;
+    }
+
+    public boolean isShowErrorMessageEnabled() {
+        return mShowErrorMessageEnabled;
+    }
+
+    public boolean isTabNavigationEnabled() {
+        return mTabNavigationEnabled;
+    }
+
+    /**
+     * @return stepper type identifier, one of the types from {@link AbstractStepperType}
+     */
+    public int getTypeIdentifier() {
+        return mTypeIdentifier;
+    }
+
+    /**
+     * @return stepper feedback type mask with flags from {@link StepperFeedbackType}
+     */
+    public int getFeedbackTypeMask() {
+        return mFeedbackTypeMask;
+    }
+
+    @FloatRange(from = 0.0f, to = 1.0f)
+    public float getContentFadeAlpha() {
+        return mContentFadeAlpha;
+    }
+
+    @DrawableRes
+    public int getContentOverlayBackground() {
+        return mContentOverlayBackground;
+    }
+
+    /**
+     * @return theme of the views inside of the stepper layout, 0 if the theme of the layout's context should be used
+     */
+    @StyleRes
+    public int getStepperLayoutTheme() {
+        return mStepperLayoutTheme;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper;
+
+import android.support.annotation.UiThread;
+
+/**
+ * A listener for the frame statistics of the transitions between steps in {@link StepperLayout}.
+ * It can be used to detect janky transitions in the field.
+ * All of the callbacks take only primitive arguments so that monitoring does not allocate.
+ *
+ * @see StepperLayout#setTransitionFrameListener(TransitionFrameListener)
+ */
+public interface TransitionFrameListener {
+
+    /**
+     * Called when a transition between steps has finished, i.e. the page transition has ended
+     * and the stepper animations have finished.
+     *
+     * @param fromStepPosition   position of the step the transition started at
+     * @param toStepPosition     position of the step the transition ended at
+     * @param frameCount         number of frames rendered during the transition
+     * @param droppedFrameCount  number of frames which were expected to be rendered during the transition but were skipped
+     * @param longestFrameNanos  the longest time between two consecutive frames in nanoseconds
+     */
+    @UiThread
+    void onTransitionMeasured(int fromStepPosition, int toStepPosition,
+                              int frameCount, int droppedFrameCount, long longestFrameNanos);
+
+}
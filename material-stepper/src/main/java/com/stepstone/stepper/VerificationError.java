@@ -16,23 +16,255 @@ limitations under the License.
 
 package com.stepstone.stepper;
 
+import android.content.Context;
+import android.support.annotation.IdRes;
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.StringRes;
+
+import com.stepstone.stepper.internal.util.ObjectsCompat;
+
+import java.lang.annotation.Retention;
+
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
 /**
  * An error which may be returned by any given step.
- * It contains the message explaining the cause.
+ * It contains the message explaining the cause.<br>
+ * Besides a plain message an error can be described with a stable code, the ID of the field which failed the verification,
+ * a severity and a message resource which is resolved only when the message is displayed.
+ * Errors are compared by value so that the stepper can skip updating the UI if the same error is reported again.<br>
+ * Errors which do not depend on the input, e.g. the ones with a message resource, can be kept in constants
+ * and returned from {@link Step#verifyStep()} so that nothing gets allocated during the verification.
  */
 public class VerificationError {
 
+    @Retention(SOURCE)
+    @IntDef({SEVERITY_ERROR, SEVERITY_WARNING})
+    public @interface Severity {
+    }
+
+    /**
+     * The step cannot be left until the error is fixed.
+     */
+    public static final int SEVERITY_ERROR = 0;
+
+    /**
+     * The error should be shown to the user but it is less severe than {@link #SEVERITY_ERROR}.
+     */
+    public static final int SEVERITY_WARNING = 1;
+
+    /**
+     * Error code used when no code was provided.
+     */
+    public static final int NO_CODE = 0;
+
+    /**
+     * Field ID used when the error is not related to any particular field.
+     */
+    public static final int NO_FIELD = -1;
+
+    private static final int NO_MESSAGE_RES = 0;
+
+    private static final int HASH_MULTIPLIER = 31;
+
     /**
      * A message explaining the cause of the error.
      */
+    @Nullable
     private final String mErrorMessage;
 
+    /**
+     * String resource ID of a message explaining the cause of the error, used if there's no plain message.
+     */
+    @StringRes
+    private final int mErrorMessageResId;
+
+    /**
+     * A stable code identifying the error.
+     */
+    private final int mCode;
+
+    /**
+     * View ID of the field which failed the verification.
+     */
+    @IdRes
+    private final int mFieldId;
+
+    @Severity
+    private final int mSeverity;
+
+    private final int mHashCode;
+
     public VerificationError(String errorMessage) {
+        this(errorMessage, NO_MESSAGE_RES, NO_CODE, NO_FIELD, SEVERITY_ERROR);
+    }
+
+    private VerificationError(@Nullable String errorMessage, @StringRes int errorMessageResId,
+                              int code, @IdRes int fieldId, @Severity int severity) {
         this.mErrorMessage = errorMessage;
+        this.mErrorMessageResId = errorMessageResId;
+        this.mCode = code;
+        this.mFieldId = fieldId;
+        this.mSeverity = severity;
+        this.mHashCode = computeHashCode();
     }
 
+    /**
+     * @return the plain message explaining the cause, <i>null</i> if the error was created only with a message resource
+     * @deprecated use {@link #getErrorMessage(Context)} which also resolves the message resource
+     */
+    @Deprecated
     public String getErrorMessage() {
         return mErrorMessage;
     }
 
+    /**
+     * Returns the message explaining the cause, resolving the message resource if there's no plain message.
+     *
+     * @param context context to resolve the message resource with
+     * @return the message explaining the cause or <i>null</i> if neither a message nor a message resource was provided
+     */
+    @Nullable
+    public String getErrorMessage(@NonNull Context context) {
+        if (mErrorMessage == null && mErrorMessageResId != NO_MESSAGE_RES) {
+            return context.getString(mErrorMessageResId);
+        }
+        return mErrorMessage;
+    }
+
+    @StringRes
+    public int getErrorMessageResId() {
+        return mErrorMessageResId;
+    }
+
+    public int getCode() {
+        return mCode;
+    }
+
+    @IdRes
+    public int getFieldId() {
+        return mFieldId;
+    }
+
+    @Severity
+    public int getSeverity() {
+        return mSeverity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        VerificationError that = (VerificationError) o;
+        return mHashCode == that.mHashCode
+                && mCode == that.mCode
+                && mFieldId == that.mFieldId
+                && mSeverity == that.mSeverity
+                && mErrorMessageResId == that.mErrorMessageResId
+                && ObjectsCompat.equals(mErrorMessage, that.mErrorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return mHashCode;
+    }
+
+    private int computeHashCode() {
+        int result = mErrorMessage != null ? mErrorMessage.hashCode() : 0;
+        result = HASH_MULTIPLIER * result + mErrorMessageResId;
+        result = HASH_MULTIPLIER * result + mCode;
+        result = HASH_MULTIPLIER * result + mFieldId;
+        result = HASH_MULTIPLIER * result + mSeverity;
+        return result;
+    }
+
+    public static class Builder {
+
+        @Nullable
+        private String mErrorMessage;
+
+        @StringRes
+        private int mErrorMessageResId = NO_MESSAGE_RES;
+
+        private int mCode = NO_CODE;
+
+        @IdRes
+        private int mFieldId = NO_FIELD;
+
+        @Severity
+        private int mSeverity = SEVERITY_ERROR;
+
+        /**
+         * Set the message using the given resource id. It is resolved only when the message needs to be displayed.
+         *
+         * @param errorMessageResId string resource ID for the message
+         * @return This Builder object to allow for chaining of calls to set methods
+         */
+        public Builder setErrorMessage(@StringRes int errorMessageResId) {
+            mErrorMessageResId = errorMessageResId;
+            return this;
+        }
+
+        /**
+         * Set the plain message. It takes precedence over the message resource.
+         *
+         * @param errorMessage message explaining the cause of the error
+         * @return This Builder object to allow for chaining of calls to set methods
+         */
+        public Builder setErrorMessage(@Nullable String errorMessage) {
+            mErrorMessage = errorMessage;
+            return this;
+        }
+
+        /**
+         * Set the stable code identifying the error. {@link #NO_CODE} by default.
+         *
+         * @param code error code
+         * @return This Builder object to allow for chaining of calls to set methods
+         */
+        public Builder setCode(int code) {
+            mCode = code;
+            return this;
+        }
+
+        /**
+         * Set the view ID of the field which failed the verification. {@link #NO_FIELD} by default.
+         *
+         * @param fieldId view ID of the field
+         * @return This Builder object to allow for chaining of calls to set methods
+         */
+        public Builder setFieldId(@IdRes int fieldId) {
+            mFieldId = fieldId;
+            return this;
+        }
+
+        /**
+         * Set the severity of the error. {@link #SEVERITY_ERROR} by default.
+         *
+         * @param severity error severity
+         * @return This Builder object to allow for chaining of calls to set methods
+         */
+        public Builder setSeverity(@Severity int severity) {
+            mSeverity = severity;
+            return this;
+        }
+
+        /**
+         * Creates the error.
+         *
+         * @return the verification error
+         */
+        @NonNull
+        public VerificationError create() {
+            return new VerificationError(mErrorMessage, mErrorMessageResId, mCode, mFieldId, mSeverity);
+        }
+    }
+
 }
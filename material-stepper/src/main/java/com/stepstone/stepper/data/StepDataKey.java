@@ -0,0 +1,49 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.data;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A typed key of a value in {@link StepDataStore}.<br>
+ * Keys are compared by identity so they should be kept in constants, e.g.
+ * <code>public static final StepDataKey&lt;String&gt; EMAIL = new StepDataKey&lt;&gt;("email");</code>
+ *
+ * @param <T> type of the value
+ */
+public final class StepDataKey<T> {
+
+    @NonNull
+    private final String mName;
+
+    /**
+     * @param name name of the key, only used for debugging
+     */
+    public StepDataKey(@NonNull String name) {
+        this.mName = name;
+    }
+
+    @NonNull
+    public String getName() {
+        return mName;
+    }
+
+    @Override
+    public String toString() {
+        return "StepDataKey{" + mName + "}";
+    }
+}
@@ -0,0 +1,342 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.data;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+
+import com.stepstone.stepper.internal.util.ObjectsCompat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typed key-value store for sharing data between the steps of a single {@link com.stepstone.stepper.StepperLayout} session.<br>
+ * Values are kept in an immutable map which is copied on every change, so a {@link Snapshot} can be taken for free
+ * and read from any thread.<br>
+ * Derived values are computed lazily from other values. The keys read during the computation are tracked and the derived value
+ * gets recomputed on the next read only if one of them changed.<br>
+ * Listeners are registered per key and notified when the value or, for derived values, any of its dependencies changes.
+ * The store itself must be used on the main thread.
+ *
+ * @see com.stepstone.stepper.StepperLayout#getStepDataStore()
+ */
+@UiThread
+public final class StepDataStore {
+
+    /**
+     * Reads values from the store.
+     */
+    public interface Reader {
+
+        /**
+         * @param key key of the value
+         * @param <T> type of the value
+         * @return the value or null if there is none
+         */
+        @Nullable
+        <T> T get(@NonNull StepDataKey<T> key);
+    }
+
+    /**
+     * Computes a derived value.
+     *
+     * @param <T> type of the value
+     */
+    public interface Derivation<T> {
+
+        /**
+         * Computes the value. All of the values it depends on must be read from the given reader.
+         *
+         * @param reader reader which tracks the keys read during the computation
+         * @return the computed value
+         */
+        @Nullable
+        T compute(@NonNull Reader reader);
+    }
+
+    /**
+     * A listener notified about changes of the value of a key.
+     */
+    public interface OnValueChangedListener {
+
+        /**
+         * Called when the value of the key changed. For derived values it is called when one of the dependencies
+         * read during the last computation changed, the value gets recomputed when it is read again.
+         *
+         * @param key key whose value changed
+         */
+        void onValueChanged(@NonNull StepDataKey<?> key);
+    }
+
+    /**
+     * An immutable snapshot of the values in the store. It does not contain the derived values.
+     */
+    public static final class Snapshot implements Reader {
+
+        @NonNull
+        private final Map<StepDataKey<?>, Object> mValues;
+
+        Snapshot(@NonNull Map<StepDataKey<?>, Object> values) {
+            this.mValues = values;
+        }
+
+        @Nullable
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(@NonNull StepDataKey<T> key) {
+            return (T) mValues.get(key);
+        }
+
+        public boolean contains(@NonNull StepDataKey<?> key) {
+            return mValues.containsKey(key);
+        }
+
+        public int size() {
+            return mValues.size();
+        }
+    }
+
+    private static final class DerivedValue<T> {
+
+        @NonNull
+        final Derivation<T> mDerivation;
+
+        @NonNull
+        final Set<StepDataKey<?>> mDependencies = new HashSet<>();
+
+        @Nullable
+        T mValue;
+
+        boolean mValid;
+
+        boolean mComputing;
+
+        DerivedValue(@NonNull Derivation<T> derivation) {
+            this.mDerivation = derivation;
+        }
+    }
+
+    /**
+     * Records the keys read while computing a derived value.
+     */
+    private final class TrackingReader implements Reader {
+
+        @NonNull
+        private final StepDataKey<?> mDerivedKey;
+
+        @NonNull
+        private final DerivedValue<?> mDerivedValue;
+
+        TrackingReader(@NonNull StepDataKey<?> derivedKey, @NonNull DerivedValue<?> derivedValue) {
+            this.mDerivedKey = derivedKey;
+            this.mDerivedValue = derivedValue;
+        }
+
+        @Nullable
+        @Override
+        public <T> T get(@NonNull StepDataKey<T> key) {
+            if (mDerivedValue.mDependencies.add(key)) {
+                getDependents(key).add(mDerivedKey);
+            }
+            return StepDataStore.this.get(key);
+        }
+    }
+
+    @NonNull
+    private Map<StepDataKey<?>, Object> mValues = Collections.emptyMap();
+
+    @NonNull
+    private final Map<StepDataKey<?>, DerivedValue<?>> mDerivedValues = new HashMap<>();
+
+    /**
+     * Derived keys by the keys they depend on.
+     */
+    @NonNull
+    private final Map<StepDataKey<?>, Set<StepDataKey<?>>> mDependents = new HashMap<>();
+
+    @NonNull
+    private final Map<StepDataKey<?>, List<OnValueChangedListener>> mListeners = new HashMap<>();
+
+    /**
+     * Returns the value of the key. Derived values are computed if any of their dependencies changed since the last read.
+     *
+     * @param key key of the value
+     * @param <T> type of the value
+     * @return the value or null if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull StepDataKey<T> key) {
+        final DerivedValue<T> derivedValue = (DerivedValue<T>) mDerivedValues.get(key);
+        if (derivedValue == null) {
+            return (T) mValues.get(key);
+        }
+        if (!derivedValue.mValid) {
+            compute(key, derivedValue);
+        }
+        return derivedValue.mValue;
+    }
+
+    /**
+     * Sets the value of the key and notifies the listeners if it changed.
+     *
+     * @param key   key of the value
+     * @param value new value, null to remove the value
+     * @param <T>   type of the value
+     * @throws IllegalArgumentException if the key is a derived one
+     */
+    public <T> void put(@NonNull StepDataKey<T> key, @Nullable T value) {
+        if (mDerivedValues.containsKey(key)) {
+            throw new IllegalArgumentException("Cannot set the value of a derived key: " + key);
+        }
+        if (ObjectsCompat.equals(mValues.get(key), value)) {
+            return;
+        }
+
+        final Map<StepDataKey<?>, Object> values = new HashMap<>(mValues);
+        if (value == null) {
+            values.remove(key);
+        } else {
+            values.put(key, value);
+        }
+        mValues = Collections.unmodifiableMap(values);
+        onValueChanged(key);
+    }
+
+    /**
+     * Registers a value derived from other values. It is computed lazily on the first read
+     * and after any of the values read during the previous computation changed.
+     *
+     * @param key        key of the derived value
+     * @param derivation computes the value
+     * @param <T>        type of the value
+     * @throws IllegalArgumentException if a plain value is already set for the key
+     */
+    public <T> void setDerivation(@NonNull StepDataKey<T> key, @NonNull Derivation<T> derivation) {
+        if (mValues.containsKey(key)) {
+            throw new IllegalArgumentException("A value is already set for the key: " + key);
+        }
+        final DerivedValue<?> previousDerivedValue = mDerivedValues.put(key, new DerivedValue<>(derivation));
+        if (previousDerivedValue != null) {
+            clearDependencies(key, previousDerivedValue);
+            onValueChanged(key);
+        }
+    }
+
+    /**
+     * Takes an immutable snapshot of the values in the store. This does not copy the values.
+     *
+     * @return snapshot of the values
+     */
+    @NonNull
+    public Snapshot snapshot() {
+        return new Snapshot(mValues);
+    }
+
+    public void addOnValueChangedListener(@NonNull StepDataKey<?> key, @NonNull OnValueChangedListener listener) {
+        List<OnValueChangedListener> listeners = mListeners.get(key);
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+            mListeners.put(key, listeners);
+        }
+        listeners.add(listener);
+    }
+
+    public void removeOnValueChangedListener(@NonNull StepDataKey<?> key, @NonNull OnValueChangedListener listener) {
+        final List<OnValueChangedListener> listeners = mListeners.get(key);
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                mListeners.remove(key);
+            }
+        }
+    }
+
+    private <T> void compute(@NonNull StepDataKey<T> key, @NonNull DerivedValue<T> derivedValue) {
+        if (derivedValue.mComputing) {
+            throw new IllegalStateException("Cyclic dependency of a derived value: " + key);
+        }
+        clearDependencies(key, derivedValue);
+        derivedValue.mComputing = true;
+        try {
+            derivedValue.mValue = derivedValue.mDerivation.compute(new TrackingReader(key, derivedValue));
+            derivedValue.mValid = true;
+        } finally {
+            derivedValue.mComputing = false;
+        }
+    }
+
+    private void clearDependencies(@NonNull StepDataKey<?> key, @NonNull DerivedValue<?> derivedValue) {
+        for (StepDataKey<?> dependency : derivedValue.mDependencies) {
+            final Set<StepDataKey<?>> dependents = mDependents.get(dependency);
+            if (dependents != null) {
+                dependents.remove(key);
+            }
+        }
+        derivedValue.mDependencies.clear();
+    }
+
+    @NonNull
+    private Set<StepDataKey<?>> getDependents(@NonNull StepDataKey<?> key) {
+        Set<StepDataKey<?>> dependents = mDependents.get(key);
+        if (dependents == null) {
+            dependents = new HashSet<>();
+            mDependents.put(key, dependents);
+        }
+        return dependents;
+    }
+
+    /**
+     * Invalidates the derived values depending on the key and notifies the listeners of the key and of these derived values.
+     */
+    private void onValueChanged(@NonNull StepDataKey<?> key) {
+        final List<StepDataKey<?>> changedKeys = new ArrayList<>();
+        changedKeys.add(key);
+        for (int i = 0; i < changedKeys.size(); i++) {
+            final Set<StepDataKey<?>> dependents = mDependents.get(changedKeys.get(i));
+            if (dependents == null) {
+                continue;
+            }
+            for (StepDataKey<?> dependent : dependents) {
+                final DerivedValue<?> derivedValue = mDerivedValues.get(dependent);
+                if (derivedValue != null && derivedValue.mValid) {
+                    derivedValue.mValid = false;
+                    derivedValue.mValue = null;
+                    changedKeys.add(dependent);
+                }
+            }
+        }
+
+        for (int i = 0; i < changedKeys.size(); i++) {
+            final StepDataKey<?> changedKey = changedKeys.get(i);
+            final List<OnValueChangedListener> listeners = mListeners.get(changedKey);
+            if (listeners == null) {
+                continue;
+            }
+            for (OnValueChangedListener listener : listeners.toArray(new OnValueChangedListener[listeners.size()])) {
+                listener.onValueChanged(changedKey);
+            }
+        }
+    }
+}
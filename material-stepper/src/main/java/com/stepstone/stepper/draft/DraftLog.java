@@ -0,0 +1,248 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.draft;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+
+/**
+ * Binary format of the {@link StepDraftStore} log file.<br>
+ * The file starts with a header (magic number and format version) followed by records.
+ * Each record consists of the payload length, the CRC32 checksum of the payload and the payload itself:
+ * record type, step position and for some types a key and a value.
+ * Strings are stored as UTF-8 bytes prefixed with their length, <code>-1</code> for null.<br>
+ * When reading, the log ends at the first truncated or corrupted record, e.g. one which was being written when the process died.
+ */
+final class DraftLog {
+
+    /**
+     * Receives the records read from the log.
+     */
+    interface Visitor {
+
+        void onPut(int stepPosition, @NonNull String key, @NonNull String value);
+
+        void onRemove(int stepPosition, @NonNull String key);
+
+        void onClearStep(int stepPosition);
+
+        void onClear();
+    }
+
+    static final byte TYPE_PUT = 1;
+
+    static final byte TYPE_REMOVE = 2;
+
+    static final byte TYPE_CLEAR_STEP = 3;
+
+    static final byte TYPE_CLEAR = 4;
+
+    private static final int MAGIC = 0x4D534446;
+
+    private static final int VERSION = 1;
+
+    private static final int FILE_HEADER_SIZE = 8;
+
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    /**
+     * Record type and step position.
+     */
+    private static final int MIN_PAYLOAD_SIZE = 5;
+
+    private static final int NULL_STRING_LENGTH = -1;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private DraftLog() {
+        throw new AssertionError("Please do not instantiate this class");
+    }
+
+    /**
+     * Reads all valid records from the log file and truncates the corrupted tail if there is one.
+     * Creates the file with an empty log if it does not exist or is empty.
+     * The file is memory-mapped for reading.
+     *
+     * @param file    log file
+     * @param visitor receives the records
+     * @return number of valid records
+     * @throws IOException if the file cannot be read or is not a log file
+     */
+    @WorkerThread
+    static int read(@NonNull File file, @NonNull Visitor visitor) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        try {
+            final FileChannel channel = randomAccessFile.getChannel();
+            final long size = channel.size();
+            if (size < FILE_HEADER_SIZE) {
+                channel.truncate(0);
+                channel.write(createFileHeader(), 0);
+                return 0;
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a draft log file: " + file);
+            }
+
+            final CRC32 crc = new CRC32();
+            byte[] payload = new byte[64];
+            int recordCount = 0;
+            int validSize = buffer.position();
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                final int payloadSize = buffer.getInt();
+                final int checksum = buffer.getInt();
+                if (payloadSize < MIN_PAYLOAD_SIZE || payloadSize > buffer.remaining()) {
+                    break;
+                }
+                if (payload.length < payloadSize) {
+                    payload = new byte[Math.max(payloadSize, payload.length * 2)];
+                }
+                buffer.get(payload, 0, payloadSize);
+                crc.reset();
+                crc.update(payload, 0, payloadSize);
+                if ((int) crc.getValue() != checksum || !decode(ByteBuffer.wrap(payload, 0, payloadSize), visitor)) {
+                    break;
+                }
+                validSize = buffer.position();
+                recordCount++;
+            }
+
+            if (validSize < size) {
+                channel.truncate(validSize);
+            }
+            return recordCount;
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    @NonNull
+    static ByteBuffer createFileHeader() {
+        final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * Encodes a record together with its header.
+     *
+     * @param type         record type
+     * @param stepPosition step position
+     * @param key          key for {@link #TYPE_PUT} and {@link #TYPE_REMOVE}, null otherwise
+     * @param value        value for {@link #TYPE_PUT}, null otherwise
+     * @return encoded record
+     */
+    @NonNull
+    static byte[] encode(byte type, int stepPosition, @Nullable String key, @Nullable String value) {
+        final byte[] keyBytes = key != null ? key.getBytes(UTF_8) : null;
+        final byte[] valueBytes = value != null ? value.getBytes(UTF_8) : null;
+        int payloadSize = MIN_PAYLOAD_SIZE;
+        if (type == TYPE_PUT || type == TYPE_REMOVE) {
+            payloadSize += stringSize(keyBytes);
+        }
+        if (type == TYPE_PUT) {
+            payloadSize += stringSize(valueBytes);
+        }
+
+        final byte[] record = new byte[RECORD_HEADER_SIZE + payloadSize];
+        final ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.position(RECORD_HEADER_SIZE);
+        buffer.put(type).putInt(stepPosition);
+        if (type == TYPE_PUT || type == TYPE_REMOVE) {
+            putString(buffer, keyBytes);
+        }
+        if (type == TYPE_PUT) {
+            putString(buffer, valueBytes);
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(record, RECORD_HEADER_SIZE, payloadSize);
+        buffer.putInt(0, payloadSize);
+        buffer.putInt(4, (int) crc.getValue());
+        return record;
+    }
+
+    private static boolean decode(@NonNull ByteBuffer payload, @NonNull Visitor visitor) {
+        final byte type = payload.get();
+        final int stepPosition = payload.getInt();
+        switch (type) {
+            case TYPE_PUT: {
+                final String key = getString(payload);
+                final String value = getString(payload);
+                if (key == null || value == null) {
+                    return false;
+                }
+                visitor.onPut(stepPosition, key, value);
+                return true;
+            }
+            case TYPE_REMOVE: {
+                final String key = getString(payload);
+                if (key == null) {
+                    return false;
+                }
+                visitor.onRemove(stepPosition, key);
+                return true;
+            }
+            case TYPE_CLEAR_STEP:
+                visitor.onClearStep(stepPosition);
+                return true;
+            case TYPE_CLEAR:
+                visitor.onClear();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int stringSize(@Nullable byte[] bytes) {
+        return 4 + (bytes != null ? bytes.length : 0);
+    }
+
+    private static void putString(@NonNull ByteBuffer buffer, @Nullable byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_STRING_LENGTH);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    @Nullable
+    private static String getString(@NonNull ByteBuffer buffer) {
+        if (buffer.remaining() < 4) {
+            return null;
+        }
+        final int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            return null;
+        }
+        final String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+}
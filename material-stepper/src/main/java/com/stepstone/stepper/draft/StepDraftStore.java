@@ -0,0 +1,561 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.draft;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import android.util.SparseArray;
+
+import com.stepstone.stepper.internal.util.StepperExecutors;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Persists the data entered in the steps so that it survives the death of the process.<br>
+ * The data is kept in memory as string key-value pairs per step position, so reads are cheap.
+ * Every change is recorded in an append-only log file with a checksum per record.
+ * The changes are written in batches on a background thread. If the process dies during a write,
+ * the incomplete record is ignored when the store is opened again. If a write fails, the log gets rewritten
+ * from the data in memory before anything else is appended to it.
+ * Once the log contains mostly outdated records it gets compacted in the background.<br>
+ * The store is thread-safe.
+ */
+public final class StepDraftStore implements Closeable {
+
+    /**
+     * Opens the stream which the records are appended to, replaced in tests to simulate failing writes.
+     */
+    interface OutputFactory {
+
+        @NonNull
+        FileOutputStream open(@NonNull File file) throws IOException;
+    }
+
+    private static final OutputFactory APPENDING_OUTPUT_FACTORY = new OutputFactory() {
+        @NonNull
+        @Override
+        public FileOutputStream open(@NonNull File file) throws IOException {
+            return new FileOutputStream(file, true);
+        }
+    };
+
+    private static final String THREAD_NAME_PREFIX = "StepDraftStore #";
+
+    private static final String COMPACTION_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Minimum number of records in the log before it gets compacted.
+     */
+    private static final int COMPACTION_MIN_RECORD_COUNT = 256;
+
+    /**
+     * The log gets compacted once it has this many times more records than there are entries.
+     */
+    private static final int COMPACTION_RATIO = 2;
+
+    @NonNull
+    private final File mFile;
+
+    @NonNull
+    private final Executor mWriteExecutor;
+
+    @NonNull
+    private final OutputFactory mOutputFactory;
+
+    @NonNull
+    private final Object mLock = new Object();
+
+    @NonNull
+    private final SparseArray<Map<String, String>> mStepData = new SparseArray<>();
+
+    @NonNull
+    private final List<byte[]> mPendingRecords = new ArrayList<>();
+
+    @NonNull
+    private final Runnable mWriteRunnable = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                writePendingRecords();
+            } catch (IOException e) {
+                onWriteError(e);
+            }
+        }
+    };
+
+    private int mRecordCount;
+
+    private int mEntryCount;
+
+    private boolean mWriteScheduled;
+
+    private boolean mClosed;
+
+    @Nullable
+    private IOException mWriteError;
+
+    /**
+     * Only accessed on the write executor.
+     */
+    @Nullable
+    private FileOutputStream mOutput;
+
+    /**
+     * True if a write failed, possibly leaving an incomplete record at the end of the log.
+     * The records appended after it would be ignored when reading the log, so it has to be rewritten first.
+     * Only accessed on the write executor.
+     */
+    private boolean mRewriteRequired;
+
+    private StepDraftStore(@NonNull File file, @NonNull Executor writeExecutor, @NonNull OutputFactory outputFactory) {
+        this.mFile = file;
+        this.mWriteExecutor = writeExecutor;
+        this.mOutputFactory = outputFactory;
+    }
+
+    /**
+     * Opens the store backed by the given file and loads the data saved in it.
+     * The file is created if it does not exist.
+     *
+     * @param file log file of the store
+     * @return the opened store
+     * @throws IOException if the file cannot be read or is not a log file of a store
+     */
+    @WorkerThread
+    @NonNull
+    public static StepDraftStore open(@NonNull File file) throws IOException {
+        return open(file, StepperExecutors.newSerialExecutor(THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * Opens the store backed by the given file and loads the data saved in it.
+     * The file is created if it does not exist.
+     *
+     * @param file          log file of the store
+     * @param writeExecutor executor on which the changes are written, it must run the tasks one at a time in submission order
+     * @return the opened store
+     * @throws IOException if the file cannot be read or is not a log file of a store
+     */
+    @WorkerThread
+    @NonNull
+    public static StepDraftStore open(@NonNull File file, @NonNull Executor writeExecutor) throws IOException {
+        return open(file, writeExecutor, APPENDING_OUTPUT_FACTORY);
+    }
+
+    @WorkerThread
+    @NonNull
+    static StepDraftStore open(@NonNull File file, @NonNull Executor writeExecutor, @NonNull OutputFactory outputFactory)
+            throws IOException {
+        final StepDraftStore store = new StepDraftStore(file, writeExecutor, outputFactory);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Returns the value saved for the given key in the step.
+     *
+     * @param stepPosition step position
+     * @param key          key of the value
+     * @return the value or null if there is none
+     */
+    @Nullable
+    public String get(int stepPosition, @NonNull String key) {
+        synchronized (mLock) {
+            final Map<String, String> data = mStepData.get(stepPosition);
+            return data != null ? data.get(key) : null;
+        }
+    }
+
+    /**
+     * Returns a copy of all the values saved for the step.
+     *
+     * @param stepPosition step position
+     * @return values by key, empty if there are none
+     */
+    @NonNull
+    public Map<String, String> getStepData(int stepPosition) {
+        synchronized (mLock) {
+            final Map<String, String> data = mStepData.get(stepPosition);
+            return data != null ? new HashMap<>(data) : Collections.<String, String>emptyMap();
+        }
+    }
+
+    /**
+     * Saves the value for the given key in the step. Nothing is written if the value did not change.
+     *
+     * @param stepPosition step position
+     * @param key          key of the value
+     * @param value        value to save, null to remove the value
+     */
+    public void put(int stepPosition, @NonNull String key, @Nullable String value) {
+        if (value == null) {
+            remove(stepPosition, key);
+            return;
+        }
+        synchronized (mLock) {
+            checkNotClosed();
+            Map<String, String> data = mStepData.get(stepPosition);
+            if (data == null) {
+                data = new HashMap<>();
+                mStepData.put(stepPosition, data);
+            }
+            final String previousValue = data.put(key, value);
+            if (value.equals(previousValue)) {
+                return;
+            }
+            if (previousValue == null) {
+                mEntryCount++;
+            }
+            appendRecord(DraftLog.encode(DraftLog.TYPE_PUT, stepPosition, key, value));
+        }
+    }
+
+    /**
+     * Removes the value saved for the given key in the step.
+     *
+     * @param stepPosition step position
+     * @param key          key of the value
+     */
+    public void remove(int stepPosition, @NonNull String key) {
+        synchronized (mLock) {
+            checkNotClosed();
+            final Map<String, String> data = mStepData.get(stepPosition);
+            if (data == null || data.remove(key) == null) {
+                return;
+            }
+            mEntryCount--;
+            appendRecord(DraftLog.encode(DraftLog.TYPE_REMOVE, stepPosition, key, null));
+        }
+    }
+
+    /**
+     * Removes all the values saved for the step.
+     *
+     * @param stepPosition step position
+     */
+    public void clearStep(int stepPosition) {
+        synchronized (mLock) {
+            checkNotClosed();
+            final Map<String, String> data = mStepData.get(stepPosition);
+            if (data == null || data.isEmpty()) {
+                return;
+            }
+            mEntryCount -= data.size();
+            mStepData.remove(stepPosition);
+            appendRecord(DraftLog.encode(DraftLog.TYPE_CLEAR_STEP, stepPosition, null, null));
+        }
+    }
+
+    /**
+     * Removes all the saved values, e.g. once the wizard was completed.
+     */
+    public void clear() {
+        synchronized (mLock) {
+            checkNotClosed();
+            if (mEntryCount == 0) {
+                return;
+            }
+            mEntryCount = 0;
+            mStepData.clear();
+            appendRecord(DraftLog.encode(DraftLog.TYPE_CLEAR, 0, null, null));
+        }
+    }
+
+    /**
+     * Writes all the pending changes and syncs them to the storage device. Blocks until done.
+     *
+     * @throws IOException if writing any of the changes failed
+     */
+    @WorkerThread
+    public void flush() throws IOException {
+        final FutureTask<Void> flushTask = new FutureTask<>(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                writePendingRecords();
+                if (mOutput != null) {
+                    mOutput.getFD().sync();
+                }
+                return null;
+            }
+        });
+        mWriteExecutor.execute(flushTask);
+        try {
+            flushTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing " + mFile);
+        } catch (ExecutionException e) {
+            onWriteError(e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause().toString()));
+        }
+        synchronized (mLock) {
+            if (mWriteError != null) {
+                throw mWriteError;
+            }
+        }
+    }
+
+    /**
+     * Closes the store. The pending changes are still written in the background.
+     * The store cannot be modified after it was closed.
+     */
+    @Override
+    public void close() {
+        synchronized (mLock) {
+            if (mClosed) {
+                return;
+            }
+            mClosed = true;
+        }
+        mWriteExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    writePendingRecords();
+                    closeOutput();
+                } catch (IOException e) {
+                    onWriteError(e);
+                }
+            }
+        });
+    }
+
+    @WorkerThread
+    private void load() throws IOException {
+        final int recordCount = DraftLog.read(mFile, new DraftLog.Visitor() {
+            @Override
+            public void onPut(int stepPosition, @NonNull String key, @NonNull String value) {
+                Map<String, String> data = mStepData.get(stepPosition);
+                if (data == null) {
+                    data = new HashMap<>();
+                    mStepData.put(stepPosition, data);
+                }
+                data.put(key, value);
+            }
+
+            @Override
+            public void onRemove(int stepPosition, @NonNull String key) {
+                final Map<String, String> data = mStepData.get(stepPosition);
+                if (data != null) {
+                    data.remove(key);
+                }
+            }
+
+            @Override
+            public void onClearStep(int stepPosition) {
+                mStepData.remove(stepPosition);
+            }
+
+            @Override
+            public void onClear() {
+                mStepData.clear();
+            }
+        });
+
+        synchronized (mLock) {
+            mRecordCount = recordCount;
+            int entryCount = 0;
+            for (int i = 0; i < mStepData.size(); i++) {
+                entryCount += mStepData.valueAt(i).size();
+            }
+            mEntryCount = entryCount;
+        }
+    }
+
+    private void appendRecord(@NonNull byte[] record) {
+        mPendingRecords.add(record);
+        mRecordCount++;
+        if (!mWriteScheduled) {
+            mWriteScheduled = true;
+            mWriteExecutor.execute(mWriteRunnable);
+        }
+    }
+
+    /**
+     * Writes all of the pending records with a single write or compacts the log instead if it has too many outdated records
+     * or if the previous write failed.
+     */
+    @WorkerThread
+    private void writePendingRecords() throws IOException {
+        final byte[] batch;
+        final SparseArray<Map<String, String>> snapshot;
+        final boolean rewrite = mRewriteRequired;
+        int compactedRecordCount = 0;
+        synchronized (mLock) {
+            mWriteScheduled = false;
+            if (mPendingRecords.isEmpty() && !rewrite) {
+                return;
+            }
+            batch = concatPendingRecords();
+            mPendingRecords.clear();
+            if (rewrite || mRecordCount >= COMPACTION_MIN_RECORD_COUNT && mRecordCount > COMPACTION_RATIO * mEntryCount) {
+                // the snapshot already contains the pending changes
+                snapshot = copyStepData();
+                compactedRecordCount = mRecordCount - mEntryCount;
+                mRecordCount = mEntryCount;
+            } else {
+                snapshot = null;
+            }
+        }
+
+        if (snapshot != null) {
+            try {
+                compact(snapshot);
+                if (rewrite) {
+                    // all of the changes which failed to be written are in the rewritten log
+                    mRewriteRequired = false;
+                    synchronized (mLock) {
+                        mWriteError = null;
+                    }
+                }
+                return;
+            } catch (IOException e) {
+                synchronized (mLock) {
+                    mRecordCount += compactedRecordCount;
+                }
+                if (rewrite) {
+                    // the pending changes are kept in memory and the rewrite is retried with the next write
+                    throw e;
+                }
+                // the old log is still in place so the pending records get appended to it instead
+            }
+        }
+
+        try {
+            getOutput().write(batch);
+        } catch (IOException e) {
+            mRewriteRequired = true;
+            closeOutputQuietly();
+            throw e;
+        }
+    }
+
+    /**
+     * Rewrites the log so that it contains only the current entries.
+     * The new log is written to a temporary file which then atomically replaces the old log,
+     * so the old log stays intact if the compaction fails.
+     *
+     * @param snapshot current entries
+     * @throws IOException if the compacted log could not be written or could not replace the old log
+     */
+    @WorkerThread
+    private void compact(@NonNull SparseArray<Map<String, String>> snapshot) throws IOException {
+        final File compactedFile = new File(mFile.getPath() + COMPACTION_FILE_SUFFIX);
+        boolean replaced = false;
+        try {
+            final FileOutputStream compactedOutput = new FileOutputStream(compactedFile);
+            try {
+                compactedOutput.getChannel().write(DraftLog.createFileHeader());
+                for (int i = 0; i < snapshot.size(); i++) {
+                    final int stepPosition = snapshot.keyAt(i);
+                    for (Map.Entry<String, String> entry : snapshot.valueAt(i).entrySet()) {
+                        compactedOutput.write(DraftLog.encode(DraftLog.TYPE_PUT, stepPosition, entry.getKey(), entry.getValue()));
+                    }
+                }
+                compactedOutput.getFD().sync();
+            } finally {
+                compactedOutput.close();
+            }
+
+            closeOutput();
+            replaced = compactedFile.renameTo(mFile);
+            if (!replaced) {
+                throw new IOException("Failed to replace " + mFile + " with the compacted log");
+            }
+        } finally {
+            if (!replaced) {
+                //noinspection ResultOfMethodCallIgnored
+                compactedFile.delete();
+            }
+        }
+    }
+
+    @NonNull
+    private FileOutputStream getOutput() throws IOException {
+        if (mOutput == null) {
+            mOutput = mOutputFactory.open(mFile);
+        }
+        return mOutput;
+    }
+
+    private void closeOutputQuietly() {
+        try {
+            closeOutput();
+        } catch (IOException ignored) {
+            // the log gets rewritten anyway
+        }
+    }
+
+    private void closeOutput() throws IOException {
+        if (mOutput != null) {
+            final FileOutputStream output = mOutput;
+            mOutput = null;
+            output.close();
+        }
+    }
+
+    @NonNull
+    private byte[] concatPendingRecords() {
+        int size = 0;
+        for (int i = 0, count = mPendingRecords.size(); i < count; i++) {
+            size += mPendingRecords.get(i).length;
+        }
+        final byte[] batch = new byte[size];
+        int offset = 0;
+        for (int i = 0, count = mPendingRecords.size(); i < count; i++) {
+            final byte[] record = mPendingRecords.get(i);
+            System.arraycopy(record, 0, batch, offset, record.length);
+            offset += record.length;
+        }
+        return batch;
+    }
+
+    @NonNull
+    private SparseArray<Map<String, String>> copyStepData() {
+        final SparseArray<Map<String, String>> copy = new SparseArray<>(mStepData.size());
+        for (int i = 0; i < mStepData.size(); i++) {
+            copy.put(mStepData.keyAt(i), new HashMap<>(mStepData.valueAt(i)));
+        }
+        return copy;
+    }
+
+    private void onWriteError(@NonNull IOException e) {
+        synchronized (mLock) {
+            if (mWriteError == null) {
+                mWriteError = e;
+            }
+        }
+    }
+
+    private void checkNotClosed() {
+        if (mClosed) {
+            throw new IllegalStateException("The store is closed");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.feedback;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+
+import com.stepstone.stepper.StepperLayout;
+import com.stepstone.stepper.internal.util.TraceUtil;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+import static com.stepstone.stepper.internal.feedback.StepperFeedbackTypeFactory.COMPONENT_TYPES;
+
+/**
+ * A stepper feedback type which creates the feedback types selected in the mask when the progress is shown for the first time
+ * and keeps them for later use. Feedback types change the stepper layout's views when they are created,
+ * so no views are touched for layouts which never show the progress.<br>
+ * When the mask changes only the feedback types whose flags were removed get dropped, the remaining ones are kept.
+ */
+@RestrictTo(LIBRARY)
+public class LazyStepperFeedbackType implements StepperFeedbackType {
+
+    private static final String TRACE_SHOW_PROGRESS = "StepperFeedback#showProgress";
+
+    private static final String TRACE_HIDE_PROGRESS = "StepperFeedback#hideProgress";
+
+    @NonNull
+    private final StepperLayout mStepperLayout;
+
+    /**
+     * Created feedback types at the indices of their flags in {@link StepperFeedbackTypeFactory#COMPONENT_TYPES}.
+     */
+    @NonNull
+    private final StepperFeedbackType[] mComponents = new StepperFeedbackType[COMPONENT_TYPES.length];
+
+    private int mFeedbackTypeMask;
+
+    private boolean mProgressShown;
+
+    public LazyStepperFeedbackType(@NonNull StepperLayout stepperLayout, int feedbackTypeMask) {
+        this.mStepperLayout = stepperLayout;
+        setFeedbackTypeMask(feedbackTypeMask);
+    }
+
+    /**
+     * Changes the selected feedback types. Feedback types which are no longer selected are dropped
+     * and hide the progress first if it is shown. Newly selected ones are created when the progress is shown next time.
+     *
+     * @param feedbackTypeMask step feedback type mask, should contain one or more from {@link StepperFeedbackType}
+     */
+    public void setFeedbackTypeMask(int feedbackTypeMask) {
+        mFeedbackTypeMask = (feedbackTypeMask & NONE) != 0 ? 0 : feedbackTypeMask;
+        for (int i = 0; i < COMPONENT_TYPES.length; i++) {
+            final StepperFeedbackType component = mComponents[i];
+            if (component != null && (mFeedbackTypeMask & COMPONENT_TYPES[i]) == 0) {
+                if (mProgressShown) {
+                    component.hideProgress();
+                }
+                mComponents[i] = null;
+            }
+        }
+    }
+
+    @Override
+    public void showProgress(@NonNull String progressMessage) {
+        final boolean traced = TraceUtil.beginSection(TRACE_SHOW_PROGRESS);
+        try {
+            mProgressShown = true;
+            for (int i = 0; i < COMPONENT_TYPES.length; i++) {
+                if ((mFeedbackTypeMask & COMPONENT_TYPES[i]) == 0) {
+                    continue;
+                }
+                if (mComponents[i] == null) {
+                    mComponents[i] = StepperFeedbackTypeFactory.createComponent(COMPONENT_TYPES[i], mStepperLayout);
+                }
+                mComponents[i].showProgress(progressMessage);
+            }
+        } finally {
+            TraceUtil.endSection(traced);
+        }
+    }
+
+    @Override
+    public void hideProgress() {
+        final boolean traced = TraceUtil.beginSection(TRACE_HIDE_PROGRESS);
+        try {
+            mProgressShown = false;
+            for (StepperFeedbackType component : mComponents) {
+                if (component != null) {
+                    component.hideProgress();
+                }
+            }
+        } finally {
+            TraceUtil.endSection(traced);
+        }
+    }
+
+    /**
+     * @param componentType a single feedback type flag from {@link StepperFeedbackType}
+     * @return true if the feedback type was already created
+     */
+    public boolean isComponentCreated(int componentType) {
+        for (int i = 0; i < COMPONENT_TYPES.length; i++) {
+            if (COMPONENT_TYPES[i] == componentType) {
+                return mComponents[i] != null;
+            }
+        }
+        return false;
+    }
+}
@@ -29,50 +29,45 @@ import static android.support.annotation.RestrictTo.Scope.LIBRARY;
 @RestrictTo(LIBRARY)
 public final class StepperFeedbackTypeFactory {
 
+    /**
+     * All of the feedback types which can be combined, in the order in which they are applied.
+     */
+    static final int[] COMPONENT_TYPES = {
+            StepperFeedbackType.TABS,
+            StepperFeedbackType.CONTENT_PROGRESS,
+            StepperFeedbackType.CONTENT_FADE,
+            StepperFeedbackType.CONTENT_OVERLAY,
+            StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION,
+            StepperFeedbackType.DISABLED_CONTENT_INTERACTION
+    };
+
     private StepperFeedbackTypeFactory() {}
 
     /**
-     * Creates a stepper feedback type for provided arguments.
-     * It can be a composition of several feedback types depending on the provided flags.
+     * Creates a single stepper feedback type.
      *
-     * @param feedbackTypeMask step feedback type mask, should contain one or more from {@link StepperFeedbackType}
-     * @param stepperLayout    stepper layout to use with the chosen stepper feedback type(s)
+     * @param componentType a single feedback type flag from {@link StepperFeedbackType} other than {@link StepperFeedbackType#NONE}
+     * @param stepperLayout stepper layout to use with the chosen stepper feedback type
      * @return a stepper feedback type
+     * @throws IllegalArgumentException if the type is not a single supported flag
      */
     @NonNull
-    public static StepperFeedbackType createType(int feedbackTypeMask, @NonNull StepperLayout stepperLayout) {
-
-        StepperFeedbackTypeComposite stepperFeedbackTypeComposite = new StepperFeedbackTypeComposite();
-
-        if ((feedbackTypeMask & StepperFeedbackType.NONE) != 0) {
-            //Add no more components if NONE type is selected
-            return stepperFeedbackTypeComposite;
-        }
-
-        if ((feedbackTypeMask & StepperFeedbackType.TABS) != 0) {
-            stepperFeedbackTypeComposite.addComponent(new TabsStepperFeedbackType(stepperLayout));
-        }
-
-        if ((feedbackTypeMask & StepperFeedbackType.CONTENT_PROGRESS) != 0) {
-            stepperFeedbackTypeComposite.addComponent(new ContentProgressStepperFeedbackType(stepperLayout));
+    public static StepperFeedbackType createComponent(int componentType, @NonNull StepperLayout stepperLayout) {
+        switch (componentType) {
+            case StepperFeedbackType.TABS:
+                return new TabsStepperFeedbackType(stepperLayout);
+            case StepperFeedbackType.CONTENT_PROGRESS:
+                return new ContentProgressStepperFeedbackType(stepperLayout);
+            case StepperFeedbackType.CONTENT_FADE:
+                return new ContentFadeStepperFeedbackType(stepperLayout);
+            case StepperFeedbackType.CONTENT_OVERLAY:
+                return new ContentOverlayStepperFeedbackType(stepperLayout);
+            case StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION:
+                return new DisabledBottomNavigationStepperFeedbackType(stepperLayout);
+            case StepperFeedbackType.DISABLED_CONTENT_INTERACTION:
+                return new DisabledContentInteractionStepperFeedbackType(stepperLayout);
+            default:
+                throw new IllegalArgumentException("Unsupported stepper feedback type: " + componentType);
         }
-
-        if ((feedbackTypeMask & StepperFeedbackType.CONTENT_FADE) != 0) {
-            stepperFeedbackTypeComposite.addComponent(new ContentFadeStepperFeedbackType(stepperLayout));
-        }
-
-        if ((feedbackTypeMask & StepperFeedbackType.CONTENT_OVERLAY) != 0) {
-            stepperFeedbackTypeComposite.addComponent(new ContentOverlayStepperFeedbackType(stepperLayout));
-        }
-
-        if ((feedbackTypeMask & StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION) != 0) {
-            stepperFeedbackTypeComposite.addComponent(new DisabledBottomNavigationStepperFeedbackType(stepperLayout));
-        }
-
-        if ((feedbackTypeMask & StepperFeedbackType.DISABLED_CONTENT_INTERACTION) != 0) {
-            stepperFeedbackTypeComposite.addComponent(new DisabledContentInteractionStepperFeedbackType(stepperLayout));
-        }
-
-        return stepperFeedbackTypeComposite;
     }
 }
@@ -0,0 +1,182 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.metrics;
+
+import android.support.annotation.Nullable;
+import android.support.annotation.RestrictTo;
+import android.support.annotation.UiThread;
+
+import com.stepstone.stepper.StepperMetricsListener;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Measures the phases of a single navigation and reports them to {@link StepperMetricsListener}.
+ * All of the methods do nothing if there is no listener.
+ */
+@RestrictTo(LIBRARY)
+@UiThread
+public class NavigationMetricsRecorder {
+
+    @Nullable
+    private StepperMetricsListener mListener;
+
+    private boolean mMeasuring;
+
+    private int mNavigationType;
+
+    private int mFromStepPosition;
+
+    private int mToStepPosition;
+
+    private long mVerificationStartNanos;
+
+    private long mVerificationNanos;
+
+    private long mBlockingStartNanos;
+
+    private long mBlockingNanos;
+
+    private long mUpdateStartNanos;
+
+    private long mUpdateNanos;
+
+    private boolean mAwaitingSettle;
+
+    public void setListener(@Nullable StepperMetricsListener listener) {
+        this.mListener = listener;
+        this.mMeasuring = false;
+    }
+
+    /**
+     * Starts measuring a navigation. The navigation measured so far, if any, is discarded.
+     *
+     * @param navigationType   one of the navigation types of {@link StepperMetricsListener}
+     * @param fromStepPosition current step position
+     */
+    public void onNavigationStarted(int navigationType, int fromStepPosition) {
+        if (mListener == null) {
+            return;
+        }
+        mMeasuring = true;
+        mNavigationType = navigationType;
+        mFromStepPosition = fromStepPosition;
+        mVerificationNanos = 0L;
+        mBlockingStartNanos = 0L;
+        mBlockingNanos = 0L;
+        mUpdateNanos = 0L;
+        mAwaitingSettle = false;
+    }
+
+    public void onVerificationStarted() {
+        if (mMeasuring) {
+            mVerificationStartNanos = System.nanoTime();
+        }
+    }
+
+    public void onVerificationFinished(int stepPosition, boolean failed) {
+        if (!mMeasuring) {
+            return;
+        }
+        mVerificationNanos += System.nanoTime() - mVerificationStartNanos;
+        if (failed) {
+            mMeasuring = false;
+            mListener.onVerificationError(stepPosition);
+        }
+    }
+
+    public void onBlockingStarted() {
+        if (mMeasuring) {
+            mBlockingStartNanos = System.nanoTime();
+        }
+    }
+
+    public void onBlockingFinished() {
+        if (mMeasuring && mBlockingStartNanos != 0L) {
+            mBlockingNanos = System.nanoTime() - mBlockingStartNanos;
+            mBlockingStartNanos = 0L;
+        }
+    }
+
+    public void onUpdateStarted() {
+        if (mMeasuring) {
+            mUpdateStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * @param toStepPosition new step position
+     * @param scrolling      true if the page transition is running, the navigation is then reported once it ends
+     */
+    public void onUpdateFinished(int toStepPosition, boolean scrolling) {
+        if (!mMeasuring) {
+            return;
+        }
+        mToStepPosition = toStepPosition;
+        mUpdateNanos = System.nanoTime() - mUpdateStartNanos;
+        if (scrolling) {
+            mAwaitingSettle = true;
+        } else {
+            report(0L);
+        }
+    }
+
+    public void onScrollSettled() {
+        if (mMeasuring && mAwaitingSettle) {
+            report(System.nanoTime() - mUpdateStartNanos);
+        }
+    }
+
+    /**
+     * Reports a navigation which finished without changing the position, i.e. completing the flow.
+     *
+     * @param stepPosition current step position
+     */
+    public void onNavigationFinished(int stepPosition) {
+        if (mMeasuring) {
+            mToStepPosition = stepPosition;
+            report(0L);
+        }
+    }
+
+    /**
+     * Discards the navigation being measured, e.g. when the operation of a blocking step got cancelled
+     * or the position is changed without navigating, so that it is not reported with the wrong position.
+     */
+    public void onNavigationCancelled() {
+        mMeasuring = false;
+        mAwaitingSettle = false;
+        mBlockingStartNanos = 0L;
+    }
+
+    public void onPrefetchResult(int stepPosition, boolean hit) {
+        if (mListener != null) {
+            mListener.onPrefetchResult(stepPosition, hit);
+        }
+    }
+
+    public boolean isEnabled() {
+        return mListener != null;
+    }
+
+    private void report(long settleNanos) {
+        mMeasuring = false;
+        mAwaitingSettle = false;
+        mListener.onNavigationMeasured(mNavigationType, mFromStepPosition, mToStepPosition,
+                mVerificationNanos, mBlockingNanos, mUpdateNanos, settleNanos);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.metrics;
+
+import android.os.SystemClock;
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+import android.support.annotation.UiThread;
+import android.support.annotation.WorkerThread;
+
+import com.stepstone.stepper.StepperEventBatch;
+import com.stepstone.stepper.StepperEventSink;
+
+import java.util.concurrent.Executor;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Records funnel events into a fixed-size ring buffer of primitives and drains them to a {@link StepperEventSink}
+ * on a background executor.<br>
+ * Recording does not allocate. A drain is scheduled once the buffer is half full or when flushed explicitly,
+ * and only one drain runs at a time so that a single {@link StepperEventBatch} can be reused.
+ * If the buffer fills up before it is drained, the oldest events are overwritten and reported as dropped.
+ */
+@RestrictTo(LIBRARY)
+public class StepperEventRecorder {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Object mLock = new Object();
+
+    @NonNull
+    private final StepperEventSink mSink;
+
+    @NonNull
+    private final Executor mExecutor;
+
+    private final int mCapacity;
+
+    private final int[] mTypes;
+
+    private final int[] mStepPositions;
+
+    private final long[] mTimestamps;
+
+    private final int[] mValues;
+
+    /**
+     * Index at which the next event is written.
+     */
+    private int mHead;
+
+    private int mSize;
+
+    private int mDroppedEventCount;
+
+    private boolean mDrainScheduled;
+
+    /**
+     * Whether a flush was requested while a drain was already in progress.
+     */
+    private boolean mFlushPending;
+
+    @NonNull
+    private final StepperEventBatch mBatch;
+
+    private final Runnable mDrainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    public StepperEventRecorder(@NonNull StepperEventSink sink, @NonNull Executor executor) {
+        this(sink, executor, DEFAULT_CAPACITY);
+    }
+
+    public StepperEventRecorder(@NonNull StepperEventSink sink, @NonNull Executor executor, int capacity) {
+        this.mSink = sink;
+        this.mExecutor = executor;
+        this.mCapacity = capacity;
+        this.mTypes = new int[capacity];
+        this.mStepPositions = new int[capacity];
+        this.mTimestamps = new long[capacity];
+        this.mValues = new int[capacity];
+        this.mBatch = new StepperEventBatch(capacity);
+    }
+
+    /**
+     * Records an event and schedules a drain if the buffer is half full.
+     *
+     * @param type         one of the <code>EVENT_*</code> constants from {@link StepperEventSink}
+     * @param stepPosition position of the step
+     * @param value        value of the event, 0 if the event has none
+     */
+    @UiThread
+    public void record(int type, int stepPosition, int value) {
+        final long timestamp = SystemClock.elapsedRealtime();
+        final boolean scheduleDrain;
+        synchronized (mLock) {
+            mTypes[mHead] = type;
+            mStepPositions[mHead] = stepPosition;
+            mTimestamps[mHead] = timestamp;
+            mValues[mHead] = value;
+            mHead = (mHead + 1) % mCapacity;
+            if (mSize == mCapacity) {
+                mDroppedEventCount++;
+            } else {
+                mSize++;
+            }
+            scheduleDrain = !mDrainScheduled && mSize * 2 >= mCapacity;
+            mDrainScheduled |= scheduleDrain;
+        }
+        if (scheduleDrain) {
+            mExecutor.execute(mDrainRunnable);
+        }
+    }
+
+    /**
+     * Schedules a drain of the recorded events if there are any.
+     */
+    public void flush() {
+        synchronized (mLock) {
+            if (mSize == 0 && mDroppedEventCount == 0) {
+                return;
+            }
+            if (mDrainScheduled) {
+                mFlushPending = true;
+                return;
+            }
+            mDrainScheduled = true;
+        }
+        mExecutor.execute(mDrainRunnable);
+    }
+
+    @WorkerThread
+    private void drain() {
+        synchronized (mLock) {
+            mBatch.clear();
+            final int tail = (mHead - mSize + mCapacity) % mCapacity;
+            for (int i = 0; i < mSize; i++) {
+                final int index = (tail + i) % mCapacity;
+                mBatch.add(mTypes[index], mStepPositions[index], mTimestamps[index], mValues[index]);
+            }
+            mBatch.setDroppedEventCount(mDroppedEventCount);
+            mSize = 0;
+            mDroppedEventCount = 0;
+            mFlushPending = false;
+        }
+
+        final boolean scheduleDrain;
+        try {
+            if (mBatch.size() > 0 || mBatch.getDroppedEventCount() > 0) {
+                mSink.onEvents(mBatch);
+            }
+        } finally {
+            synchronized (mLock) {
+                // events recorded while the sink was busy
+                scheduleDrain = mSize * 2 >= mCapacity || (mFlushPending && mSize > 0);
+                mDrainScheduled = scheduleDrain;
+                mFlushPending = false;
+            }
+        }
+        if (scheduleDrain) {
+            mExecutor.execute(mDrainRunnable);
+        }
+    }
+}
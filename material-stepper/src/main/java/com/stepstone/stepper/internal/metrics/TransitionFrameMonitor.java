@@ -0,0 +1,147 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.metrics;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+import android.support.annotation.UiThread;
+import android.view.Choreographer;
+import android.view.WindowManager;
+
+import com.stepstone.stepper.TransitionFrameListener;
+import com.stepstone.stepper.internal.util.AnimationUtil;
+
+import java.util.concurrent.TimeUnit;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Monitors the frames rendered during a transition between steps using {@link Choreographer}.<br>
+ * A transition starts when the current item of the pager is changed and ends once the pager is idle
+ * and the stepper animations started with the transition have finished.
+ * If a new transition starts before the previous one ended, the previous one is reported first.
+ */
+@RestrictTo(LIBRARY)
+@UiThread
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+public class TransitionFrameMonitor implements Choreographer.FrameCallback {
+
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private static final long ANIMATION_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(AnimationUtil.DEFAULT_DURATION);
+
+    @NonNull
+    private final TransitionFrameListener mListener;
+
+    private final long mFrameIntervalNanos;
+
+    private boolean mRunning;
+
+    private int mFromStepPosition;
+
+    private int mToStepPosition;
+
+    private boolean mPagerIdle;
+
+    private long mAnimationsEndNanos;
+
+    private long mLastFrameTimeNanos;
+
+    private int mFrameCount;
+
+    private int mDroppedFrameCount;
+
+    private long mLongestFrameNanos;
+
+    public TransitionFrameMonitor(@NonNull Context context, @NonNull TransitionFrameListener listener) {
+        this.mListener = listener;
+        final WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        float refreshRate = windowManager != null ? windowManager.getDefaultDisplay().getRefreshRate() : DEFAULT_REFRESH_RATE;
+        if (refreshRate <= 0f) {
+            refreshRate = DEFAULT_REFRESH_RATE;
+        }
+        this.mFrameIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refreshRate);
+    }
+
+    /**
+     * Starts monitoring a transition.
+     *
+     * @param fromStepPosition position of the step the transition starts at
+     * @param toStepPosition   position of the step the transition ends at
+     * @param animated         true if the stepper animations are running during the transition
+     */
+    public void start(int fromStepPosition, int toStepPosition, boolean animated) {
+        if (mRunning) {
+            finish();
+        }
+        mRunning = true;
+        mFromStepPosition = fromStepPosition;
+        mToStepPosition = toStepPosition;
+        mPagerIdle = false;
+        mAnimationsEndNanos = System.nanoTime() + (animated ? ANIMATION_DURATION_NANOS : 0L);
+        mLastFrameTimeNanos = 0L;
+        mFrameCount = 0;
+        mDroppedFrameCount = 0;
+        mLongestFrameNanos = 0L;
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Marks the page transition as ended.
+     */
+    public void onPagerIdle() {
+        mPagerIdle = true;
+    }
+
+    /**
+     * Stops monitoring without reporting the transition in progress.
+     */
+    public void stop() {
+        if (mRunning) {
+            mRunning = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!mRunning) {
+            return;
+        }
+        if (mLastFrameTimeNanos != 0L) {
+            final long frameNanos = frameTimeNanos - mLastFrameTimeNanos;
+            mFrameCount++;
+            mDroppedFrameCount += Math.max(0, Math.round((float) frameNanos / mFrameIntervalNanos) - 1);
+            mLongestFrameNanos = Math.max(mLongestFrameNanos, frameNanos);
+        }
+        mLastFrameTimeNanos = frameTimeNanos;
+
+        if (mPagerIdle && frameTimeNanos >= mAnimationsEndNanos) {
+            finish();
+        } else {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    private void finish() {
+        stop();
+        mListener.onTransitionMeasured(mFromStepPosition, mToStepPosition, mFrameCount, mDroppedFrameCount, mLongestFrameNanos);
+    }
+}
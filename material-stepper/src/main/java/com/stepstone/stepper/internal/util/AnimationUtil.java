@@ -27,7 +27,7 @@ public final class AnimationUtil {
     public static final float ALPHA_INVISIBLE = 0.0f;
     public static final float ALPHA_HALF = 0.5f;
 
-    private static final int DEFAULT_DURATION = 300;
+    public static final int DEFAULT_DURATION = 300;
 
     private AnimationUtil() {
         throw new AssertionError("Please do not instantiate this class");
@@ -0,0 +1,101 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.util;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Holds the executors shared by all of the stepper layouts for background work.
+ */
+@RestrictTo(LIBRARY)
+public final class StepperExecutors {
+
+    private static final int MAX_POOL_SIZE = 4;
+
+    private static final long KEEP_ALIVE_SECONDS = 30L;
+
+    private static final String THREAD_NAME_PREFIX = "StepperLayout #";
+
+    private static Executor sBackgroundExecutor;
+
+    private StepperExecutors() {
+        throw new AssertionError("Please do not instantiate this class");
+    }
+
+    /**
+     * Returns a bounded executor with at most {@value #MAX_POOL_SIZE} threads which are released when idle.
+     *
+     * @return the default background executor
+     */
+    @NonNull
+    public static synchronized Executor getBackgroundExecutor() {
+        if (sBackgroundExecutor == null) {
+            final int poolSize = Math.max(1, Math.min(MAX_POOL_SIZE, Runtime.getRuntime().availableProcessors()));
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new BackgroundThreadFactory(THREAD_NAME_PREFIX));
+            executor.allowCoreThreadTimeOut(true);
+            sBackgroundExecutor = executor;
+        }
+        return sBackgroundExecutor;
+    }
+
+    /**
+     * Creates an executor which runs the tasks one at a time in submission order on a single thread released when idle.
+     *
+     * @param threadNamePrefix prefix of the name of the thread
+     * @return a new serial executor
+     */
+    @NonNull
+    public static Executor newSerialExecutor(@NonNull String threadNamePrefix) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new BackgroundThreadFactory(threadNamePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static class BackgroundThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger mCount = new AtomicInteger(1);
+
+        private final String mThreadNamePrefix;
+
+        BackgroundThreadFactory(@NonNull String threadNamePrefix) {
+            this.mThreadNamePrefix = threadNamePrefix;
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, mThreadNamePrefix + mCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
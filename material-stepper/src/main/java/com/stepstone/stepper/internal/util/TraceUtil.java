@@ -0,0 +1,64 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.util;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+import android.support.v4.os.TraceCompat;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Adds trace sections visible in Systrace/Perfetto around the hot paths of the library.<br>
+ * Tracing is disabled by default, in which case the methods only check a static flag.
+ *
+ * @see com.stepstone.stepper.StepperLayout#setTraceEnabled(boolean)
+ */
+@RestrictTo(LIBRARY)
+public final class TraceUtil {
+
+    private static volatile boolean sEnabled;
+
+    private TraceUtil() {
+        throw new AssertionError("Please do not instantiate this class");
+    }
+
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    /**
+     * Begins a trace section. Every call must be followed by a call to {@link #endSection()} on the same thread,
+     * also if tracing got disabled in the meantime.
+     *
+     * @param sectionName name of the section, should be a constant
+     * @return true if the section was started and needs to be ended with {@link #endSection()}
+     */
+    public static boolean beginSection(@NonNull String sectionName) {
+        if (!sEnabled) {
+            return false;
+        }
+        TraceCompat.beginSection(sectionName);
+        return true;
+    }
+
+    public static void endSection(boolean sectionStarted) {
+        if (sectionStarted) {
+            TraceCompat.endSection();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.verification;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+import android.support.annotation.UiThread;
+
+import com.stepstone.stepper.AsyncStep;
+import com.stepstone.stepper.VerificationError;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Verifies several {@link AsyncStep}s concurrently and delivers all of the results at once on the main thread.
+ * Only a single validation can be in flight at a time.
+ */
+@RestrictTo(LIBRARY)
+public class AllStepsValidator {
+
+    /**
+     * A callback for the results of the validation. Never called if the validation gets cancelled.
+     */
+    public interface Callback {
+
+        /**
+         * Called when all of the steps were verified.
+         *
+         * @param stepPositions positions of the verified steps
+         * @param errors        verification errors for the steps at the corresponding indexes, <i>null</i> for steps verified successfully
+         */
+        @UiThread
+        void onValidated(@NonNull int[] stepPositions, @NonNull VerificationError[] errors);
+    }
+
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private Validation mCurrentValidation;
+
+    /**
+     * Starts verifying the steps. Each step is submitted to the executor separately so the executor decides how many run concurrently.
+     *
+     * @param executor      executor to run the verifications on
+     * @param stepPositions positions of the steps to verify
+     * @param steps         steps to verify at the corresponding indexes
+     * @param callback      callback to notify on the main thread
+     */
+    @UiThread
+    public void validate(@NonNull Executor executor, @NonNull int[] stepPositions, @NonNull AsyncStep[] steps, @NonNull Callback callback) {
+        cancel();
+        final Validation validation = new Validation(stepPositions, steps, callback);
+        mCurrentValidation = validation;
+        if (steps.length == 0) {
+            validation.deliver();
+            return;
+        }
+        for (FutureTask<VerificationError> task : validation.mTasks) {
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Cancels the validation in flight, if any. Its callback will not be called.
+     */
+    @UiThread
+    public void cancel() {
+        if (mCurrentValidation != null) {
+            mCurrentValidation.cancel();
+            mCurrentValidation = null;
+        }
+    }
+
+    /**
+     * @return true if there's a validation in flight
+     */
+    public boolean isValidating() {
+        return mCurrentValidation != null;
+    }
+
+    private final class Validation {
+
+        @NonNull
+        private final int[] mStepPositions;
+
+        @NonNull
+        private final Callback mCallback;
+
+        @NonNull
+        private final FutureTask<VerificationError>[] mTasks;
+
+        @NonNull
+        private final AtomicInteger mRemainingCount;
+
+        private final Runnable mDeliverResultRunnable = new Runnable() {
+            @Override
+            public void run() {
+                deliver();
+            }
+        };
+
+        @SuppressWarnings("unchecked")
+        Validation(@NonNull int[] stepPositions, @NonNull AsyncStep[] steps, @NonNull Callback callback) {
+            this.mStepPositions = stepPositions;
+            this.mCallback = callback;
+            this.mRemainingCount = new AtomicInteger(steps.length);
+            this.mTasks = new FutureTask[steps.length];
+            for (int i = 0; i < steps.length; i++) {
+                final AsyncStep step = steps[i];
+                mTasks[i] = new FutureTask<VerificationError>(new Callable<VerificationError>() {
+                    @Override
+                    public VerificationError call() throws Exception {
+                        return step.verifyStepAsync();
+                    }
+                }) {
+                    @Override
+                    protected void done() {
+                        if (mRemainingCount.decrementAndGet() == 0 && !isCancelled()) {
+                            mMainHandler.post(mDeliverResultRunnable);
+                        }
+                    }
+                };
+            }
+        }
+
+        private void deliver() {
+            if (mCurrentValidation != this) {
+                return;
+            }
+            mCurrentValidation = null;
+            final VerificationError[] errors = new VerificationError[mTasks.length];
+            for (int i = 0; i < mTasks.length; i++) {
+                errors[i] = getResult(mTasks[i]);
+            }
+            mCallback.onValidated(mStepPositions, errors);
+        }
+
+        private void cancel() {
+            for (FutureTask<VerificationError> task : mTasks) {
+                task.cancel(true);
+            }
+            mMainHandler.removeCallbacks(mDeliverResultRunnable);
+        }
+
+        private VerificationError getResult(@NonNull FutureTask<VerificationError> task) {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while getting the result of a finished verification", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Step verification failed with an exception", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.verification;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.RestrictTo;
+import android.support.annotation.UiThread;
+
+import com.stepstone.stepper.AsyncStep;
+import com.stepstone.stepper.VerificationError;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Runs {@link AsyncStep#verifyStepAsync()} on a background executor and delivers the result on the main thread.
+ * Only a single verification can be in flight at a time.
+ */
+@RestrictTo(LIBRARY)
+public class AsyncStepVerifier {
+
+    /**
+     * No timeout for the verification.
+     */
+    public static final long NO_TIMEOUT = 0L;
+
+    /**
+     * A callback for the result of the verification. Never called if the verification gets cancelled.
+     */
+    public interface Callback {
+
+        /**
+         * Called when the verification finished.
+         *
+         * @param error the cause of the validation failure or <i>null</i> if step was validated successfully
+         */
+        @UiThread
+        void onVerified(@Nullable VerificationError error);
+
+        /**
+         * Called when the verification did not finish before the timeout.
+         */
+        @UiThread
+        void onTimedOut();
+    }
+
+    @NonNull
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    @NonNull
+    private Executor mExecutor;
+
+    private long mTimeoutMillis = NO_TIMEOUT;
+
+    @Nullable
+    private Verification mCurrentVerification;
+
+    public AsyncStepVerifier(@NonNull Executor executor) {
+        this.mExecutor = executor;
+    }
+
+    public void setExecutor(@NonNull Executor executor) {
+        this.mExecutor = executor;
+    }
+
+    /**
+     * @param timeoutMillis time after which the verification gets cancelled, {@link #NO_TIMEOUT} to wait indefinitely
+     */
+    public void setTimeout(long timeoutMillis) {
+        this.mTimeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Starts verifying the step in the background.
+     *
+     * @param step     step to verify
+     * @param callback callback to notify on the main thread
+     */
+    @UiThread
+    public void verify(@NonNull AsyncStep step, @NonNull Callback callback) {
+        cancel();
+        final Verification verification = new Verification(step, callback);
+        mCurrentVerification = verification;
+        if (mTimeoutMillis > NO_TIMEOUT) {
+            mMainHandler.postDelayed(verification.mTimeoutRunnable, mTimeoutMillis);
+        }
+        mExecutor.execute(verification.mTask);
+    }
+
+    /**
+     * Cancels the verification in flight, if any. Its callback will not be called.
+     */
+    @UiThread
+    public void cancel() {
+        if (mCurrentVerification != null) {
+            mCurrentVerification.cancel();
+            mCurrentVerification = null;
+        }
+    }
+
+    /**
+     * @return true if there's a verification in flight
+     */
+    public boolean isVerifying() {
+        return mCurrentVerification != null;
+    }
+
+    private final class Verification {
+
+        @NonNull
+        private final Callback mCallback;
+
+        @NonNull
+        private final FutureTask<VerificationError> mTask;
+
+        private final Runnable mTimeoutRunnable = new Runnable() {
+            @Override
+            public void run() {
+                if (finish()) {
+                    mTask.cancel(true);
+                    mCallback.onTimedOut();
+                }
+            }
+        };
+
+        private final Runnable mDeliverResultRunnable = new Runnable() {
+            @Override
+            public void run() {
+                if (finish()) {
+                    mCallback.onVerified(getResult());
+                }
+            }
+        };
+
+        Verification(@NonNull final AsyncStep step, @NonNull Callback callback) {
+            this.mCallback = callback;
+            this.mTask = new FutureTask<VerificationError>(new Callable<VerificationError>() {
+                @Override
+                public VerificationError call() throws Exception {
+                    return step.verifyStepAsync();
+                }
+            }) {
+                @Override
+                protected void done() {
+                    if (!isCancelled()) {
+                        mMainHandler.post(mDeliverResultRunnable);
+                    }
+                }
+            };
+        }
+
+        /**
+         * @return true if this was still the current verification
+         */
+        private boolean finish() {
+            if (mCurrentVerification != this) {
+                return false;
+            }
+            mCurrentVerification = null;
+            mMainHandler.removeCallbacks(mTimeoutRunnable);
+            return true;
+        }
+
+        private void cancel() {
+            mTask.cancel(true);
+            mMainHandler.removeCallbacks(mTimeoutRunnable);
+            mMainHandler.removeCallbacks(mDeliverResultRunnable);
+        }
+
+        @Nullable
+        private VerificationError getResult() {
+            try {
+                return mTask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while getting the result of a finished verification", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Step verification failed with an exception", e.getCause());
+            }
+        }
+    }
+}
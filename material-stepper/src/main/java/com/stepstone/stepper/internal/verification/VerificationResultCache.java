@@ -0,0 +1,107 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.verification;
+
+import android.support.annotation.Nullable;
+import android.support.annotation.RestrictTo;
+import android.util.SparseArray;
+
+import com.stepstone.stepper.CacheableStep;
+import com.stepstone.stepper.VerificationError;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+
+/**
+ * Caches the last verification result of each {@link CacheableStep} together with the input fingerprint it was computed for.
+ */
+@RestrictTo(LIBRARY)
+public class VerificationResultCache {
+
+    private final SparseArray<Entry> mEntries = new SparseArray<>();
+
+    private int mHitCount;
+
+    private int mMissCount;
+
+    /**
+     * Checks if there's a cached result for the step at the given position and fingerprint.
+     * Counts the lookup as a hit or a miss.
+     *
+     * @param stepPosition step position
+     * @param fingerprint  current input fingerprint of the step
+     * @return true if the result is cached and can be retrieved with {@link #get(int)}
+     */
+    public boolean contains(int stepPosition, long fingerprint) {
+        Entry entry = mEntries.get(stepPosition);
+        if (entry != null && entry.mFingerprint == fingerprint) {
+            mHitCount++;
+            return true;
+        }
+        mMissCount++;
+        return false;
+    }
+
+    /**
+     * @param stepPosition step position
+     * @return cached verification error or null if the step was verified successfully or nothing is cached
+     */
+    @Nullable
+    public VerificationError get(int stepPosition) {
+        Entry entry = mEntries.get(stepPosition);
+        return entry != null ? entry.mError : null;
+    }
+
+    /**
+     * Stores a verification result for the step.
+     *
+     * @param stepPosition step position
+     * @param fingerprint  input fingerprint the result was computed for
+     * @param error        verification error or null if the step was verified successfully
+     */
+    public void put(int stepPosition, long fingerprint, @Nullable VerificationError error) {
+        Entry entry = mEntries.get(stepPosition);
+        if (entry == null) {
+            entry = new Entry();
+            mEntries.put(stepPosition, entry);
+        }
+        entry.mFingerprint = fingerprint;
+        entry.mError = error;
+    }
+
+    /**
+     * Removes all cached results. Hit and miss counts are kept.
+     */
+    public void clear() {
+        mEntries.clear();
+    }
+
+    public int getHitCount() {
+        return mHitCount;
+    }
+
+    public int getMissCount() {
+        return mMissCount;
+    }
+
+    private static final class Entry {
+
+        private long mFingerprint;
+
+        @Nullable
+        private VerificationError mError;
+    }
+}
@@ -29,6 +29,7 @@ import android.widget.LinearLayout;
 
 import com.stepstone.stepper.R;
 import com.stepstone.stepper.internal.util.TintUtil;
+import com.stepstone.stepper.internal.util.TraceUtil;
 
 import static android.support.annotation.RestrictTo.Scope.LIBRARY;
 
@@ -38,6 +39,8 @@ import static android.support.annotation.RestrictTo.Scope.LIBRARY;
 @RestrictTo(LIBRARY)
 public class DottedProgressBar extends LinearLayout {
 
+    private static final String TRACE_UPDATE = "DottedProgressBar#update";
+
     private static final float FULL_SCALE = 1f;
     private static final float HALF_SCALE = 0.5f;
     private static final int DURATION_IMMEDIATE = 0;
@@ -98,24 +101,29 @@ public class DottedProgressBar extends LinearLayout {
     }
 
     private void update(boolean shouldAnimate) {
-        for (int i = 0; i < mDotCount; i++) {
-            if (i == mCurrent) {
-                getChildAt(i).animate()
-                        .scaleX(FULL_SCALE)
-                        .scaleY(FULL_SCALE)
-                        .setDuration(shouldAnimate ? SCALE_ANIMATION_DEFAULT_DURATION : DURATION_IMMEDIATE)
-                        .setInterpolator(DEFAULT_INTERPOLATOR)
-                        .start();
-                colorChildAtPosition(i, true);
-            } else {
-                getChildAt(i).animate()
-                        .scaleX(HALF_SCALE)
-                        .scaleY(HALF_SCALE)
-                        .setDuration(shouldAnimate ? SCALE_ANIMATION_DEFAULT_DURATION : DURATION_IMMEDIATE)
-                        .setInterpolator(DEFAULT_INTERPOLATOR)
-                        .start();
-                colorChildAtPosition(i, false);
+        final boolean traced = TraceUtil.beginSection(TRACE_UPDATE);
+        try {
+            for (int i = 0; i < mDotCount; i++) {
+                if (i == mCurrent) {
+                    getChildAt(i).animate()
+                            .scaleX(FULL_SCALE)
+                            .scaleY(FULL_SCALE)
+                            .setDuration(shouldAnimate ? SCALE_ANIMATION_DEFAULT_DURATION : DURATION_IMMEDIATE)
+                            .setInterpolator(DEFAULT_INTERPOLATOR)
+                            .start();
+                    colorChildAtPosition(i, true);
+                } else {
+                    getChildAt(i).animate()
+                            .scaleX(HALF_SCALE)
+                            .scaleY(HALF_SCALE)
+                            .setDuration(shouldAnimate ? SCALE_ANIMATION_DEFAULT_DURATION : DURATION_IMMEDIATE)
+                            .setInterpolator(DEFAULT_INTERPOLATOR)
+                            .start();
+                    colorChildAtPosition(i, false);
+                }
             }
+        } finally {
+            TraceUtil.endSection(traced);
         }
     }
 
@@ -71,4 +71,8 @@ public class RightNavigationButton extends AppCompatButton {
         }
     }
 
+    public boolean isVerificationFailed() {
+        return mVerificationFailed;
+    }
+
 }
@@ -44,6 +44,7 @@ import com.stepstone.stepper.R;
 import com.stepstone.stepper.StepperLayout;
 import com.stepstone.stepper.VerificationError;
 import com.stepstone.stepper.internal.util.ObjectsCompat;
+import com.stepstone.stepper.internal.util.TraceUtil;
 
 import static android.support.annotation.RestrictTo.Scope.LIBRARY;
 
@@ -53,6 +54,8 @@ import static android.support.annotation.RestrictTo.Scope.LIBRARY;
 @RestrictTo(LIBRARY)
 public class StepTab extends RelativeLayout {
 
+    private static final String TRACE_UPDATE_STATE = "StepTab#updateState";
+
     private static final float ALPHA_TRANSPARENT = 0.0f;
 
     private static final float ALPHA_INACTIVE_STEP_TITLE = 0.54f;
@@ -113,6 +116,21 @@ public class StepTab extends RelativeLayout {
 
     private AccelerateInterpolator mAccelerateInterpolator = new AccelerateInterpolator();
 
+    /**
+     * Arguments of the last {@link #updateState(VerificationError, boolean, boolean, boolean)} call,
+     * used to skip updating the UI if nothing has changed.
+     */
+    private boolean mStateApplied;
+
+    @Nullable
+    private VerificationError mAppliedError;
+
+    private boolean mAppliedDone;
+
+    private boolean mAppliedCurrent;
+
+    private boolean mAppliedShowErrorMessageEnabled;
+
     public StepTab(Context context) {
         this(context, null);
     }
@@ -157,23 +175,42 @@ public class StepTab extends RelativeLayout {
 
     /**
      * Updates the UI state of the tab and sets {@link #mCurrentState} based on the arguments.
+     * Does nothing if the arguments are equal to the ones from the previous call.
      *  @param error   not null if an error/warning should be shown, null if not an error
      * @param done    true the step was completed, if warning is not shown and this is <code>true</code> a done indicator will be shown
      * @param current true if this is the currently selected step
      * @param showErrorMessageEnabled true if an error message below step title should appear when an error occurs
      */
     public void updateState(@Nullable final VerificationError error, final boolean done, final boolean current, boolean showErrorMessageEnabled) {
-        // FIXME: 05/03/2017 stop tabs from changing positions due to changing font type (does not happen e.g. on API 16, investigate further)
-        mStepTitleTextView.setTypeface(current ? mBoldTypeface : mNormalTypeface);
-
-        if (error != null) {
-            mCurrentState.changeToWarning(showErrorMessageEnabled ? error.getErrorMessage() : null);
-        } else if (done) {
-            mCurrentState.changeToDone();
-        } else if (current) {
-            mCurrentState.changeToActiveNumber();
-        } else {
-            mCurrentState.changeToInactiveNumber();
+        final boolean traced = TraceUtil.beginSection(TRACE_UPDATE_STATE);
+        try {
+            if (mStateApplied
+                    && mAppliedDone == done
+                    && mAppliedCurrent == current
+                    && mAppliedShowErrorMessageEnabled == showErrorMessageEnabled
+                    && ObjectsCompat.equals(mAppliedError, error)) {
+                return;
+            }
+            mStateApplied = true;
+            mAppliedError = error;
+            mAppliedDone = done;
+            mAppliedCurrent = current;
+            mAppliedShowErrorMessageEnabled = showErrorMessageEnabled;
+
+            // FIXME: 05/03/2017 stop tabs from changing positions due to changing font type (does not happen e.g. on API 16, investigate further)
+            mStepTitleTextView.setTypeface(current ? mBoldTypeface : mNormalTypeface);
+
+            if (error != null) {
+                mCurrentState.changeToWarning(showErrorMessageEnabled ? error.getErrorMessage(getContext()) : null);
+            } else if (done) {
+                mCurrentState.changeToDone();
+            } else if (current) {
+                mCurrentState.changeToActiveNumber();
+            } else {
+                mCurrentState.changeToInactiveNumber();
+            }
+        } finally {
+            TraceUtil.endSection(traced);
         }
     }
 
@@ -0,0 +1,174 @@
+/*
+Copyright 2026 StepStone Services
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.stepstone.stepper.internal.widget;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.RestrictTo;
+import android.support.v4.content.res.ResourcesCompat;
+import android.support.v7.widget.AppCompatButton;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+import android.widget.ProgressBar;
+import android.widget.RelativeLayout;
+
+import com.stepstone.stepper.R;
+import com.stepstone.stepper.StepperLayout;
+
+import static android.support.annotation.RestrictTo.Scope.LIBRARY;
+import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
+import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
+
+/**
+ * Creates the child views of {@link StepperLayout} in code, as an alternative to inflating <code>ms_stepper_layout</code>.<br>
+ * The views get the same IDs and styles as in the layout file. Their layout params are created directly,
+ * sized with the library's dimensions instead of the <code>layout_*</code> attributes of the styles.
+ * The passed context must have the stepper layout theme applied so that the style attributes get resolved.
+ */
+@RestrictTo(LIBRARY)
+public final class StepperLayoutViews {
+
+    private StepperLayoutViews() {
+        throw new AssertionError("Please do not instantiate this class");
+    }
+
+    @NonNull
+    public static TabsContainer createTabsContainer(@NonNull Context context) {
+        final TabsContainer tabsContainer = new TabsContainer(context, null, R.attr.ms_tabsContainerStyle);
+        tabsContainer.setId(R.id.ms_stepTabsContainer);
+        tabsContainer.setLayoutParams(new LinearLayout.LayoutParams(MATCH_PARENT, WRAP_CONTENT));
+        tabsContainer.setVisibility(View.GONE);
+        return tabsContainer;
+    }
+
+    /**
+     * Creates the container of the step pager without the content overlay and the content progress bar.
+     *
+     * @param context themed context
+     * @return the container with the step pager
+     */
+    @NonNull
+    public static FrameLayout createContentContainer(@NonNull Context context) {
+        final FrameLayout contentContainer = new FrameLayout(context);
+        contentContainer.setLayoutParams(new LinearLayout.LayoutParams(MATCH_PARENT, 0, 1.0f));
+
+        final StepViewPager pager = new StepViewPager(context);
+        pager.setId(R.id.ms_stepPager);
+        contentContainer.addView(pager, new FrameLayout.LayoutParams(MATCH_PARENT, MATCH_PARENT));
+        return contentContainer;
+    }
+
+    @NonNull
+    public static View createContentOverlay(@NonNull Context context) {
+        final View overlay = new View(context, null, R.attr.ms_stepPagerOverlayStyle);
+        overlay.setId(R.id.ms_stepPagerOverlay);
+        overlay.setLayoutParams(new FrameLayout.LayoutParams(MATCH_PARENT, MATCH_PARENT));
+        overlay.setAlpha(0.0f);
+        overlay.setVisibility(View.GONE);
+        return overlay;
+    }
+
+    @NonNull
+    public static ProgressBar createContentProgressBar(@NonNull Context context) {
+        final ProgressBar progressBar = new ProgressBar(context, null, R.attr.ms_stepPagerProgressBarStyle);
+        progressBar.setId(R.id.ms_stepPagerProgressBar);
+        progressBar.setLayoutParams(new FrameLayout.LayoutParams(WRAP_CONTENT, WRAP_CONTENT, Gravity.CENTER));
+        progressBar.setVisibility(View.GONE);
+        return progressBar;
+    }
+
+    /**
+     * Creates the bottom navigation with the navigation buttons and, if requested, the progress indicators of the stepper types.
+     *
+     * @param context                  themed context
+     * @param withDottedProgressBar    true if the dotted progress bar of the 'dots' type should be created
+     * @param withColorableProgressBar true if the progress bar of the 'progress_bar' type should be created
+     * @return the bottom navigation
+     */
+    @NonNull
+    public static RelativeLayout createBottomNavigation(@NonNull Context context,
+                                                        boolean withDottedProgressBar, boolean withColorableProgressBar) {
+        final Resources resources = context.getResources();
+        final RelativeLayout bottomNavigation = new RelativeLayout(context, null, R.attr.ms_bottomNavigationStyle);
+        bottomNavigation.setId(R.id.ms_bottomNavigation);
+        bottomNavigation.setLayoutParams(new LinearLayout.LayoutParams(
+                MATCH_PARENT, resources.getDimensionPixelSize(R.dimen.ms_bottom_navigation_bar_height)));
+
+        final Button backButton = new AppCompatButton(context, null, R.attr.ms_backNavigationButtonStyle);
+        backButton.setId(R.id.ms_stepPrevButton);
+        final Drawable chevronStartDrawable = ResourcesCompat.getDrawable(resources, R.drawable.ms_ic_chevron_start, null);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            backButton.setCompoundDrawablesRelativeWithIntrinsicBounds(chevronStartDrawable, null, null, null);
+        } else {
+            backButton.setCompoundDrawablesWithIntrinsicBounds(chevronStartDrawable, null, null, null);
+        }
+        bottomNavigation.addView(backButton, createNavigationButtonLayoutParams(false));
+
+        if (withDottedProgressBar || withColorableProgressBar) {
+            final FrameLayout progressContainer = new FrameLayout(context);
+            final RelativeLayout.LayoutParams progressContainerLayoutParams = new RelativeLayout.LayoutParams(WRAP_CONTENT, WRAP_CONTENT);
+            progressContainerLayoutParams.addRule(RelativeLayout.CENTER_IN_PARENT);
+            bottomNavigation.addView(progressContainer, progressContainerLayoutParams);
+
+            if (withDottedProgressBar) {
+                final DottedProgressBar dottedProgressBar = new DottedProgressBar(context);
+                dottedProgressBar.setId(R.id.ms_stepDottedProgressBar);
+                dottedProgressBar.setOrientation(LinearLayout.HORIZONTAL);
+                dottedProgressBar.setVisibility(View.GONE);
+                progressContainer.addView(dottedProgressBar, new FrameLayout.LayoutParams(WRAP_CONTENT, WRAP_CONTENT));
+            }
+            if (withColorableProgressBar) {
+                final ColorableProgressBar progressBar = new ColorableProgressBar(context, null, R.attr.ms_colorableProgressBarStyle);
+                progressBar.setId(R.id.ms_stepProgressBar);
+                progressBar.setIndeterminate(false);
+                progressBar.setVisibility(View.GONE);
+                progressContainer.addView(progressBar, new FrameLayout.LayoutParams(
+                        resources.getDimensionPixelSize(R.dimen.ms_progress_bar_width),
+                        resources.getDimensionPixelSize(R.dimen.ms_progress_bar_height)));
+            }
+        }
+
+        final RightNavigationButton nextButton = new RightNavigationButton(context, null, R.attr.ms_nextNavigationButtonStyle);
+        nextButton.setId(R.id.ms_stepNextButton);
+        bottomNavigation.addView(nextButton, createNavigationButtonLayoutParams(true));
+
+        final RightNavigationButton completeButton = new RightNavigationButton(context, null, R.attr.ms_completeNavigationButtonStyle);
+        completeButton.setId(R.id.ms_stepCompleteButton);
+        completeButton.setAlpha(0.0f);
+        completeButton.setVisibility(View.GONE);
+        bottomNavigation.addView(completeButton, createNavigationButtonLayoutParams(true));
+        return bottomNavigation;
+    }
+
+    @NonNull
+    private static ViewGroup.LayoutParams createNavigationButtonLayoutParams(boolean alignEnd) {
+        final RelativeLayout.LayoutParams layoutParams = new RelativeLayout.LayoutParams(WRAP_CONTENT, WRAP_CONTENT);
+        layoutParams.addRule(RelativeLayout.CENTER_VERTICAL);
+        layoutParams.addRule(alignEnd ? RelativeLayout.ALIGN_PARENT_RIGHT : RelativeLayout.ALIGN_PARENT_LEFT);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            layoutParams.addRule(alignEnd ? RelativeLayout.ALIGN_PARENT_END : RelativeLayout.ALIGN_PARENT_START);
+        }
+        return layoutParams;
+    }
+}
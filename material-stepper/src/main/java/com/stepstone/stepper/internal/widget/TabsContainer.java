@@ -33,6 +33,7 @@ import android.widget.LinearLayout;
 import com.stepstone.stepper.R;
 import com.stepstone.stepper.StepperLayout;
 import com.stepstone.stepper.VerificationError;
+import com.stepstone.stepper.internal.util.TraceUtil;
 import com.stepstone.stepper.viewmodel.StepViewModel;
 
 import java.util.List;
@@ -47,6 +48,10 @@ import static android.support.annotation.RestrictTo.Scope.LIBRARY;
 @RestrictTo(LIBRARY)
 public class TabsContainer extends FrameLayout {
 
+    private static final String TRACE_SET_STEPS = "TabsContainer#setSteps";
+
+    private static final String TRACE_UPDATE_STEPS = "TabsContainer#updateSteps";
+
     /**
      * Listeners for actions on individual tabs of the horizontal stepper
      */
@@ -135,12 +140,17 @@ public class TabsContainer extends FrameLayout {
      * @param stepViewModels a list of step info holders
      */
     public void setSteps(List<StepViewModel> stepViewModels) {
-        this.mStepViewModels = stepViewModels;
-
-        mTabsInnerContainer.removeAllViews();
-        for (int i = 0; i < stepViewModels.size(); i++) {
-            final View tab = createStepTab(i, stepViewModels.get(i));
-            mTabsInnerContainer.addView(tab, tab.getLayoutParams());
+        final boolean traced = TraceUtil.beginSection(TRACE_SET_STEPS);
+        try {
+            this.mStepViewModels = stepViewModels;
+
+            mTabsInnerContainer.removeAllViews();
+            for (int i = 0; i < stepViewModels.size(); i++) {
+                final View tab = createStepTab(i, stepViewModels.get(i));
+                mTabsInnerContainer.addView(tab, tab.getLayoutParams());
+            }
+        } finally {
+            TraceUtil.endSection(traced);
         }
     }
 
@@ -151,17 +161,22 @@ public class TabsContainer extends FrameLayout {
      * @param showErrorMessageEnabled true if an error message below step title should appear when an error occurs
      */
     public void updateSteps(int currentStepPosition, SparseArray<VerificationError> stepErrors, boolean showErrorMessageEnabled) {
-        int size = mStepViewModels.size();
-        for (int i = 0; i < size; i++) {
-            StepTab childTab = (StepTab) mTabsInnerContainer.getChildAt(i);
-            boolean done = i < currentStepPosition;
-            final boolean current = i == currentStepPosition;
-
-            VerificationError error = stepErrors.get(i);
-            childTab.updateState(error, done, current, showErrorMessageEnabled);
-            if (current) {
-                mTabsScrollView.smoothScrollTo(childTab.getLeft() - mContainerLateralPadding, 0);
+        final boolean traced = TraceUtil.beginSection(TRACE_UPDATE_STEPS);
+        try {
+            int size = mStepViewModels.size();
+            for (int i = 0; i < size; i++) {
+                StepTab childTab = (StepTab) mTabsInnerContainer.getChildAt(i);
+                boolean done = i < currentStepPosition;
+                final boolean current = i == currentStepPosition;
+
+                VerificationError error = stepErrors.get(i);
+                childTab.updateState(error, done, current, showErrorMessageEnabled);
+                if (current) {
+                    mTabsScrollView.smoothScrollTo(childTab.getLeft() - mContainerLateralPadding, 0);
+                }
             }
+        } finally {
+            TraceUtil.endSection(traced);
         }
     }
 
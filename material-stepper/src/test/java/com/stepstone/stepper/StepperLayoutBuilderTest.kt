@@ -0,0 +1,94 @@
+package com.stepstone.stepper
+
+import com.stepstone.stepper.internal.feedback.StepperFeedbackType
+import com.stepstone.stepper.test.TYPE_DOTS
+import com.stepstone.stepper.test.TYPE_NONE
+import com.stepstone.stepper.test.TYPE_TABS
+import com.stepstone.stepper.test.assertion.StepperLayoutAssert
+import com.stepstone.stepper.test.createAttributeSetWithStepperType
+import com.stepstone.stepper.test.createStepperLayoutActivity
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import com.stepstone.stepper.test.test_double.SyntheticStepAdapter
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertNull
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(StepperRobolectricTestRunner::class)
+class StepperLayoutBuilderTest {
+
+    val activity: StepperLayoutActivity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_NONE))
+
+    @After
+    fun tearDown() {
+        StepperStyle.clearCache()
+    }
+
+    @Test
+    fun `Should create only the progress bar indicator for the default style`() {
+        //given
+        val style = StepperStyle.obtain(activity, 0)
+
+        //when
+        val stepperLayout = StepperLayout.Builder(activity, style).build()
+
+        //then
+        assertStepperLayout(stepperLayout)
+                .hasHorizontalProgressBarHidden()
+                .hasBottomNavigationShown()
+        assertNull(stepperLayout.findViewById(R.id.ms_stepDottedProgressBar))
+        assertNull(stepperLayout.findViewById(R.id.ms_stepTabsContainer))
+        assertNull(stepperLayout.findViewById(R.id.ms_stepPagerOverlay))
+        assertNull(stepperLayout.findViewById(R.id.ms_stepPagerProgressBar))
+    }
+
+    @Test
+    fun `Should create only the tabs indicator for 'tabs' type`() {
+        //given
+        val style = StepperStyle.obtain(activity, createAttributeSetWithStepperType(TYPE_TABS), 0)
+
+        //when
+        val stepperLayout = StepperLayout.Builder(activity, style).build()
+
+        //then
+        assertStepperLayout(stepperLayout)
+                .hasTabsHidden()
+        assertNull(stepperLayout.findViewById(R.id.ms_stepDottedProgressBar))
+        assertNull(stepperLayout.findViewById(R.id.ms_stepProgressBar))
+    }
+
+    @Test
+    fun `Should show the dots indicator after setting the adapter for 'dots' type`() {
+        //given
+        val style = StepperStyle.obtain(activity, createAttributeSetWithStepperType(TYPE_DOTS), 0)
+        val stepperLayout = StepperLayout.Builder(activity, style).build()
+
+        //when
+        stepperLayout.adapter = SyntheticStepAdapter(activity, 3)
+
+        //then
+        assertStepperLayout(stepperLayout)
+                .hasDottedProgressBarShown()
+        assertEquals(0, stepperLayout.currentStepPosition)
+    }
+
+    @Test
+    fun `Should add the views of feedback types set after building`() {
+        //given
+        val stepperLayout = StepperLayout.Builder(activity, StepperStyle.obtain(activity, 0)).build()
+
+        //when
+        stepperLayout.setFeedbackType(StepperFeedbackType.CONTENT_PROGRESS or StepperFeedbackType.CONTENT_OVERLAY or StepperFeedbackType.TABS)
+
+        //then
+        assertNotNull(stepperLayout.findViewById(R.id.ms_stepPagerProgressBar))
+        assertNotNull(stepperLayout.findViewById(R.id.ms_stepTabsProgressMessage))
+        assertNotNull(stepperLayout.findViewById(R.id.ms_stepPagerOverlay))
+    }
+
+    fun assertStepperLayout(stepperLayout: StepperLayout): StepperLayoutAssert {
+        return StepperLayoutAssert.assertThat(stepperLayout)
+    }
+}
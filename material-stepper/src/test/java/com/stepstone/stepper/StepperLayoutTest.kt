@@ -1,17 +1,39 @@
 package com.stepstone.stepper
 
+import android.os.Parcel
+import android.util.SparseArray
+import android.view.ViewGroup
 import android.widget.LinearLayout
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.doReturn
+import com.nhaarman.mockito_kotlin.eq
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.nhaarman.mockito_kotlin.whenever
+import com.stepstone.stepper.internal.feedback.StepperFeedbackType
+import com.stepstone.stepper.internal.verification.AsyncStepVerifierTest
 import com.stepstone.stepper.test.*
 import com.stepstone.stepper.test.assertion.StepperLayoutAssert
 import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import com.stepstone.stepper.test.test_double.BlockingStepAdapter
+import com.stepstone.stepper.test.test_double.CountingStepAdapter
+import com.stepstone.stepper.test.test_double.PrefetchingStepAdapter
 import com.stepstone.stepper.test.test_double.SpyStepAdapter
+import com.stepstone.stepper.test.test_double.SyntheticFragmentStepAdapter
+import com.stepstone.stepper.test.test_double.SyntheticStepAdapter
 import com.stepstone.stepper.viewmodel.StepViewModel
 import org.junit.Assert
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.Mockito
 import org.robolectric.Robolectric
 import org.robolectric.RuntimeEnvironment
+import java.util.concurrent.TimeUnit
 
 
 /**
@@ -26,6 +48,10 @@ class StepperLayoutTest {
 
         const val LAST_PAGE_INDEX = 2
 
+        const val CALLBACK_TIMEOUT_MILLIS = 1000L
+
+        const val LIVE_VALIDATION_DEBOUNCE_MILLIS = 300L
+
     }
 
     lateinit var stepperLayout: StepperLayout
@@ -371,6 +397,610 @@ class StepperLayoutTest {
                 .hasCompleteButtonHidden()
     }
 
+    @Test
+    fun `Should verify all intermediate steps and go to the target step when going forward to a step`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+
+        //when
+        stepperLayout.goToStep(LAST_PAGE_INDEX)
+
+        //then
+        assertEquals(LAST_PAGE_INDEX, stepperLayout.currentStepPosition)
+        Mockito.verify(getStep(0)).verifyStep()
+        Mockito.verify(getStep(1)).verifyStep()
+        assertStepperLayout()
+                .hasBackButtonShown()
+                .hasNextButtonHidden()
+                .hasCompleteButtonShown()
+    }
+
+    @Test
+    fun `Should stop at the first step which failed verification when going forward to a step`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val verificationError = VerificationError("error")
+        doReturn(verificationError).whenever(getStep(1)).verifyStep()
+
+        //when
+        stepperLayout.goToStep(LAST_PAGE_INDEX)
+
+        //then
+        assertEquals(1, stepperLayout.currentStepPosition)
+        Mockito.verify(getStep(1)).onError(verificationError)
+    }
+
+    @Test
+    fun `Should not select the current step again if it failed verification when going forward to a step`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val verificationError = VerificationError("error")
+        doReturn(verificationError).whenever(getStep(0)).verifyStep()
+        val stepperListener = mock<StepperLayout.StepperListener>()
+        stepperLayout.setListener(stepperListener)
+        Mockito.clearInvocations(getStep(0))
+
+        //when
+        stepperLayout.goToStep(LAST_PAGE_INDEX)
+
+        //then
+        assertEquals(0, stepperLayout.currentStepPosition)
+        Mockito.verify(getStep(0)).onError(verificationError)
+        Mockito.verify(getStep(0), never()).onSelected()
+        verify(stepperListener, never()).onStepSelected(any())
+    }
+
+    @Test
+    fun `Should stop at the first step which was not created yet when going forward to a step with a fragment adapter`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = SyntheticFragmentStepAdapter(activity.supportFragmentManager, activity, 5)
+
+        //when
+        stepperLayout.goToStep(4)
+
+        //then
+        assertEquals(2, stepperLayout.currentStepPosition)
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun `Should throw when going to a step out of range`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+
+        //when
+        stepperLayout.goToStep(LAST_PAGE_INDEX + 1)
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun `Should throw when going to a negative step position`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+
+        //when
+        stepperLayout.goToStep(-1)
+    }
+
+    @Test
+    fun `Should report errors of all the created steps when validating all steps`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val verificationError = VerificationError("error")
+        doReturn(verificationError).whenever(getStep(1)).verifyStep()
+        var reportedErrors: SparseArray<VerificationError>? = null
+
+        //when
+        stepperLayout.validateAll { stepErrors -> reportedErrors = stepErrors }
+
+        //then
+        Mockito.verify(getStep(0)).verifyStep()
+        assertEquals(1, reportedErrors?.size())
+        assertEquals(verificationError, reportedErrors?.get(1))
+    }
+
+    @Test
+    fun `Should report no errors when validating all steps without an adapter set`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutInActivity(attributeSet)
+        var reportedErrors: SparseArray<VerificationError>? = null
+
+        //when
+        stepperLayout.validateAll { stepErrors -> reportedErrors = stepErrors }
+
+        //then
+        assertEquals(0, reportedErrors?.size())
+    }
+
+    @Test
+    fun `Should cancel pending 'Next' operation and ignore late 'goToNextStep' call when going back`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        goToMiddlePage()
+        val callback = stepperLayout.OnNextClickedCallback()
+        var cancelled = false
+        callback.addOnCancelListener { cancelled = true }
+
+        //when
+        stepperLayout.onBackClicked()
+        callback.goToNextStep()
+
+        //then
+        assertTrue(callback.isCancelled)
+        assertTrue(cancelled)
+        assertEquals(0, stepperLayout.currentStepPosition)
+    }
+
+    @Test
+    fun `Should cancel pending 'Next' operation after the timeout`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val callback = stepperLayout.OnNextClickedCallback()
+        callback.setTimeout(CALLBACK_TIMEOUT_MILLIS)
+
+        //when
+        Robolectric.getForegroundThreadScheduler().advanceBy(CALLBACK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+        callback.goToNextStep()
+
+        //then
+        assertTrue(callback.isCancelled)
+        assertEquals(0, stepperLayout.currentStepPosition)
+    }
+
+    @Test
+    fun `Should not cancel 'Next' operation which already finished`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val callback = stepperLayout.OnNextClickedCallback()
+
+        //when
+        callback.goToNextStep()
+        stepperLayout.onBackClicked()
+
+        //then
+        assertFalse(callback.isCancelled)
+        assertEquals(0, stepperLayout.currentStepPosition)
+    }
+
+    @Test
+    fun `Should notify all state listeners only about the latest state`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val firstListenerStates = mutableListOf<StepperState>()
+        val secondListenerStates = mutableListOf<StepperState>()
+        val scheduler = Robolectric.getForegroundThreadScheduler()
+        scheduler.pause()
+
+        //when
+        stepperLayout.addStateListener { state -> firstListenerStates.add(state) }
+        stepperLayout.addStateListener { state -> secondListenerStates.add(state) }
+        stepperLayout.setNextButtonEnabled(false)
+        stepperLayout.showProgress("loading")
+        stepperLayout.currentStepPosition = 1
+        scheduler.unPause()
+
+        //then
+        assertEquals(1, firstListenerStates.size)
+        assertEquals(1, secondListenerStates.size)
+        val state = firstListenerStates[0]
+        assertSame(state, secondListenerStates[0])
+        assertEquals(1, state.currentStepPosition)
+        assertEquals(3, state.stepCount)
+        assertTrue(state.isInProgress)
+        assertFalse(state.isNextButtonEnabled)
+    }
+
+    @Test
+    fun `Should drop 'Next' clicks while the previous navigation request is in flight if 'drop' navigation policy is set`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        stepperLayout.setNavigationPolicy(StepperLayout.NAVIGATION_POLICY_DROP)
+        val nextButton = stepperLayout.findViewById(R.id.ms_stepNextButton)
+        Robolectric.getForegroundThreadScheduler().pause()
+
+        //when
+        nextButton.performClick()
+        nextButton.performClick()
+
+        //then
+        assertEquals(1, stepperLayout.currentStepPosition)
+        assertEquals(1, stepperLayout.coalescedNavigationRequestCount)
+    }
+
+    @Test
+    fun `Should keep only the latest 'Next' click while the previous navigation request is in flight if 'latest' navigation policy is set`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        stepperLayout.setNavigationPolicy(StepperLayout.NAVIGATION_POLICY_LATEST)
+        val nextButton = stepperLayout.findViewById(R.id.ms_stepNextButton)
+        Robolectric.getForegroundThreadScheduler().pause()
+
+        //when
+        nextButton.performClick()
+        nextButton.performClick()
+        nextButton.performClick()
+
+        //then
+        assertEquals(1, stepperLayout.currentStepPosition)
+        assertEquals(1, stepperLayout.coalescedNavigationRequestCount)
+    }
+
+    @Test
+    fun `Should end the navigation request in flight when a blocking step hides the progress without finishing the operation`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = BlockingStepAdapter(activity, 3)
+        stepperLayout.setNavigationPolicy(StepperLayout.NAVIGATION_POLICY_DROP)
+        val nextButton = stepperLayout.findViewById(R.id.ms_stepNextButton)
+        val firstStep = stepperLayout.adapter.findStep(0) as BlockingStepAdapter.PendingBlockingStepView
+        nextButton.performClick()
+        stepperLayout.showProgress("loading")
+
+        //when
+        stepperLayout.hideProgress()
+        nextButton.performClick()
+
+        //then
+        assertEquals(2, firstStep.nextClickedCallbacks.size)
+        assertEquals(0, stepperLayout.coalescedNavigationRequestCount)
+        assertEquals(0, stepperLayout.currentStepPosition)
+    }
+
+    @Test
+    fun `Should drop going forward to a step while the previous navigation request is in flight if 'drop' navigation policy is set`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        stepperLayout.setNavigationPolicy(StepperLayout.NAVIGATION_POLICY_DROP)
+        Robolectric.getForegroundThreadScheduler().pause()
+        stepperLayout.proceed()
+
+        //when
+        stepperLayout.goToStep(LAST_PAGE_INDEX)
+
+        //then
+        assertEquals(1, stepperLayout.currentStepPosition)
+        assertEquals(1, stepperLayout.coalescedNavigationRequestCount)
+    }
+
+    @Test
+    fun `Should restore position, step errors and button states from the saved state`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val verificationError = VerificationError.Builder()
+                .setCode(1)
+                .setErrorMessage("error")
+                .create()
+        goToMiddlePage()
+        stepperLayout.updateErrorState(verificationError)
+        stepperLayout.setNextButtonEnabled(false)
+        val parcel = Parcel.obtain()
+        stepperLayout.onSaveInstanceState().writeToParcel(parcel, 0)
+        parcel.setDataPosition(0)
+        val savedState = StepperLayout.SavedState.CREATOR.createFromParcel(parcel)
+        parcel.recycle()
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+
+        //when
+        stepperLayout.onRestoreInstanceState(savedState)
+
+        //then
+        val state = stepperLayout.state
+        assertEquals(LAST_PAGE_INDEX - 1, state.currentStepPosition)
+        assertEquals(verificationError, state.getError(LAST_PAGE_INDEX - 1))
+        assertFalse(state.isNextButtonEnabled)
+        assertTrue(state.isBackButtonEnabled)
+    }
+
+    @Test
+    fun `Should verify the current step live only once the input stops changing for the debounce time`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = CountingStepAdapter(activity, 3)
+        stepperLayout.setLiveValidationEnabled(true)
+        stepperLayout.setLiveValidationDebounce(LIVE_VALIDATION_DEBOUNCE_MILLIS)
+        val firstStep = stepperLayout.adapter.findStep(0) as CountingStepAdapter.CountingStepView
+        firstStep.error = VerificationError("error")
+        val scheduler = Robolectric.getForegroundThreadScheduler()
+        scheduler.pause()
+
+        //when
+        stepperLayout.notifyStepInputChanged()
+        scheduler.advanceBy(LIVE_VALIDATION_DEBOUNCE_MILLIS - 1, TimeUnit.MILLISECONDS)
+        stepperLayout.notifyStepInputChanged()
+        scheduler.advanceBy(LIVE_VALIDATION_DEBOUNCE_MILLIS - 1, TimeUnit.MILLISECONDS)
+
+        //then
+        assertEquals(0, firstStep.verifyStepCount)
+
+        //when
+        scheduler.advanceBy(1, TimeUnit.MILLISECONDS)
+        scheduler.advanceToLastPostedRunnable()
+
+        //then
+        assertEquals(1, firstStep.verifyStepCount)
+        assertTrue(stepperLayout.state.isNextButtonVerificationFailed)
+    }
+
+    @Test
+    fun `Should cancel the pending live validation when navigating to another step`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = CountingStepAdapter(activity, 3)
+        stepperLayout.setLiveValidationEnabled(true)
+        stepperLayout.setLiveValidationDebounce(LIVE_VALIDATION_DEBOUNCE_MILLIS)
+        val firstStep = stepperLayout.adapter.findStep(0) as CountingStepAdapter.CountingStepView
+        val scheduler = Robolectric.getForegroundThreadScheduler()
+        scheduler.pause()
+        stepperLayout.notifyStepInputChanged()
+
+        //when
+        stepperLayout.currentStepPosition = 1
+        scheduler.advanceBy(LIVE_VALIDATION_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)
+        scheduler.advanceToLastPostedRunnable()
+
+        //then
+        assertEquals(0, firstStep.verifyStepCount)
+        assertFalse(stepperLayout.state.isNextButtonVerificationFailed)
+    }
+
+    @Test
+    fun `Should verify an async step live on the async verification executor`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = CountingStepAdapter(activity, 3, async = true)
+        val executor = AsyncStepVerifierTest.QueueingExecutor()
+        stepperLayout.setAsyncVerificationExecutor(executor)
+        stepperLayout.setLiveValidationEnabled(true)
+        stepperLayout.setLiveValidationDebounce(LIVE_VALIDATION_DEBOUNCE_MILLIS)
+        val firstStep = stepperLayout.adapter.findStep(0) as CountingStepAdapter.CountingAsyncStepView
+        firstStep.error = VerificationError("error")
+        val scheduler = Robolectric.getForegroundThreadScheduler()
+        scheduler.pause()
+        stepperLayout.notifyStepInputChanged()
+        scheduler.advanceBy(LIVE_VALIDATION_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)
+
+        //then
+        assertEquals(0, firstStep.verifyStepAsyncCount)
+
+        //when
+        executor.runAll()
+        scheduler.advanceToLastPostedRunnable()
+
+        //then
+        assertEquals(1, firstStep.verifyStepAsyncCount)
+        assertEquals(0, firstStep.verifyStepCount)
+        assertTrue(stepperLayout.state.isNextButtonVerificationFailed)
+    }
+
+    @Test
+    fun `Should discard the result of an async live validation which finished after navigating to another step`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = CountingStepAdapter(activity, 3, async = true)
+        val executor = AsyncStepVerifierTest.QueueingExecutor()
+        stepperLayout.setAsyncVerificationExecutor(executor)
+        stepperLayout.setLiveValidationEnabled(true)
+        stepperLayout.setLiveValidationDebounce(LIVE_VALIDATION_DEBOUNCE_MILLIS)
+        val firstStep = stepperLayout.adapter.findStep(0) as CountingStepAdapter.CountingAsyncStepView
+        firstStep.error = VerificationError("error")
+        val scheduler = Robolectric.getForegroundThreadScheduler()
+        scheduler.pause()
+        stepperLayout.notifyStepInputChanged()
+        scheduler.advanceBy(LIVE_VALIDATION_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)
+
+        //when
+        stepperLayout.currentStepPosition = 1
+        executor.runAll()
+        scheduler.advanceToLastPostedRunnable()
+
+        //then
+        assertFalse(stepperLayout.state.isNextButtonVerificationFailed)
+        assertEquals(null, stepperLayout.state.getError(0))
+    }
+
+    @Test
+    fun `Should ask the step next to the current step to prefetch its data on the background executor`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        val executor = AsyncStepVerifierTest.QueueingExecutor()
+        stepperLayout.setAsyncVerificationExecutor(executor)
+        stepperLayout.adapter = PrefetchingStepAdapter(activity, 3)
+
+        //when
+        stepperLayout.currentStepPosition = 1
+
+        //then
+        val lastStep = stepperLayout.adapter.findStep(LAST_PAGE_INDEX) as PrefetchingStepAdapter.PrefetchingStepView
+        assertEquals(1, lastStep.prefetchCount)
+        assertSame(executor, lastStep.prefetchExecutor)
+        assertFalse(lastStep.dataLoaded)
+        executor.runAll()
+        assertTrue(lastStep.dataLoaded)
+    }
+
+    @Test
+    fun `Should cancel prefetching of the step which is no longer next to the current step`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.setAsyncVerificationExecutor(AsyncStepVerifierTest.QueueingExecutor())
+        stepperLayout.adapter = PrefetchingStepAdapter(activity, 3)
+        stepperLayout.currentStepPosition = 1
+        val firstStep = stepperLayout.adapter.findStep(0) as PrefetchingStepAdapter.PrefetchingStepView
+
+        //when
+        stepperLayout.currentStepPosition = LAST_PAGE_INDEX
+
+        //then
+        assertEquals(1, firstStep.prefetchCount)
+        assertEquals(1, firstStep.prefetchCancelledCount)
+    }
+
+    @Test
+    fun `Should cancel prefetching when a new adapter is set`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.setAsyncVerificationExecutor(AsyncStepVerifierTest.QueueingExecutor())
+        stepperLayout.adapter = PrefetchingStepAdapter(activity, 3)
+        stepperLayout.currentStepPosition = 1
+        val lastStep = stepperLayout.adapter.findStep(LAST_PAGE_INDEX) as PrefetchingStepAdapter.PrefetchingStepView
+
+        //when
+        stepperLayout.adapter = SyntheticStepAdapter(activity, 3)
+
+        //then
+        assertEquals(1, lastStep.prefetchCancelledCount)
+    }
+
+    @Test
+    fun `Should cancel prefetching when detached from window`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.setAsyncVerificationExecutor(AsyncStepVerifierTest.QueueingExecutor())
+        stepperLayout.adapter = PrefetchingStepAdapter(activity, 3)
+        stepperLayout.currentStepPosition = 1
+        val lastStep = stepperLayout.adapter.findStep(LAST_PAGE_INDEX) as PrefetchingStepAdapter.PrefetchingStepView
+
+        //when
+        (stepperLayout.parent as ViewGroup).removeView(stepperLayout)
+
+        //then
+        assertEquals(1, lastStep.prefetchCancelledCount)
+    }
+
+    @Test
+    fun `Should reuse the prefetched step when navigating to it before the prefetching finished`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        val executor = AsyncStepVerifierTest.QueueingExecutor()
+        stepperLayout.setAsyncVerificationExecutor(executor)
+        val adapter = PrefetchingStepAdapter(activity, 3)
+        stepperLayout.adapter = adapter
+        stepperLayout.currentStepPosition = 1
+        val lastStep = adapter.findStep(LAST_PAGE_INDEX) as PrefetchingStepAdapter.PrefetchingStepView
+
+        //when
+        stepperLayout.currentStepPosition = LAST_PAGE_INDEX
+        executor.runAll()
+
+        //then
+        assertSame(lastStep, adapter.findStep(LAST_PAGE_INDEX))
+        assertEquals(1, adapter.getCreatedStepCount(LAST_PAGE_INDEX))
+        assertEquals(1, lastStep.prefetchCount)
+        assertEquals(0, lastStep.prefetchCancelledCount)
+        assertTrue(lastStep.dataLoaded)
+    }
+
+    @Test
+    fun `Should not show the progress again when restoring the state saved while in progress`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        stepperLayout.setFeedbackType(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+        stepperLayout.showProgress("loading")
+        val parcel = Parcel.obtain()
+        stepperLayout.onSaveInstanceState().writeToParcel(parcel, 0)
+        parcel.setDataPosition(0)
+        val savedState = StepperLayout.SavedState.CREATOR.createFromParcel(parcel)
+        parcel.recycle()
+        // a new layout as after the process was killed
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        stepperLayout.setFeedbackType(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+
+        //when
+        stepperLayout.onRestoreInstanceState(savedState)
+
+        //then
+        assertFalse(stepperLayout.isInProgress)
+        assertEquals("loading", stepperLayout.interruptedProgressMessage)
+        val state = stepperLayout.state
+        assertTrue(state.isNextButtonEnabled)
+        assertTrue(state.isBackButtonEnabled)
+    }
+
+    @Test
+    fun `Should report verification error to the metrics listener when going to the next step fails`() {
+        //given
+        val attributeSet = createAttributeSetWithStepperType(TYPE_TABS)
+        stepperLayout = createStepperLayoutWithAdapterSetInActivity(attributeSet)
+        val metricsListener = mock<StepperMetricsListener>()
+        stepperLayout.setMetricsListener(metricsListener)
+        doReturn(VerificationError("error")).whenever(getStep(0)).verifyStep()
+
+        //when
+        stepperLayout.proceed()
+
+        //then
+        verify(metricsListener).onVerificationError(0)
+        verify(metricsListener, never()).onNavigationMeasured(any(), any(), any(), any(), any(), any(), any())
+    }
+
+    @Test
+    fun `Should discard the navigation measurement of an unfinished blocking step when a new adapter is set`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = BlockingStepAdapter(activity, 3)
+        val metricsListener = mock<StepperMetricsListener>()
+        stepperLayout.setMetricsListener(metricsListener)
+        stepperLayout.proceed()
+
+        //when
+        stepperLayout.adapter = SyntheticStepAdapter(activity, 3)
+
+        //then
+        verify(metricsListener, never()).onNavigationMeasured(any(), any(), any(), any(), any(), any(), any())
+    }
+
+    @Test
+    fun `Should discard the navigation measurement of an unfinished blocking step when going back`() {
+        //given
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_TABS))
+        stepperLayout = activity.stepperLayout
+        stepperLayout.adapter = BlockingStepAdapter(activity, 3)
+        stepperLayout.currentStepPosition = 1
+        val metricsListener = mock<StepperMetricsListener>()
+        stepperLayout.setMetricsListener(metricsListener)
+        stepperLayout.proceed()
+
+        //when
+        stepperLayout.onBackClicked()
+
+        //then
+        verify(metricsListener, never()).onNavigationMeasured(eq(StepperMetricsListener.NAVIGATION_NEXT), any(), any(), any(), any(), any(), any())
+    }
+
+    private fun getStep(position: Int): Step {
+        val stepAdapter = stepperLayout.adapter as SpyStepAdapter
+        val step = stepAdapter.steps.get(position)
+        Assert.assertNotNull("Step not found", step)
+        return step
+    }
+
     private fun goToLastPage() {
         stepperLayout.currentStepPosition = LAST_PAGE_INDEX
     }
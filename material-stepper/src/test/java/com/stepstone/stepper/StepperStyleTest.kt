@@ -0,0 +1,115 @@
+package com.stepstone.stepper
+
+import com.stepstone.stepper.internal.feedback.StepperFeedbackType
+import com.stepstone.stepper.internal.type.AbstractStepperType
+import com.stepstone.stepper.test.TYPE_DOTS
+import com.stepstone.stepper.test.TYPE_TABS
+import com.stepstone.stepper.test.createAttributeSetWithStepperType
+import com.stepstone.stepper.test.createStepperLayoutInActivity
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.RuntimeEnvironment
+
+@RunWith(StepperRobolectricTestRunner::class)
+class StepperStyleTest {
+
+    val context = RuntimeEnvironment.application
+
+    @After
+    fun tearDown() {
+        StepperStyle.clearCache()
+    }
+
+    @Test
+    fun `Should reuse the style for the same theme and attributes`() {
+        //given
+        val style = StepperStyle.obtain(context, createAttributeSetWithStepperType(TYPE_TABS), 0)
+
+        //when
+        val reusedStyle = StepperStyle.obtain(context, createAttributeSetWithStepperType(TYPE_TABS), 0)
+
+        //then
+        assertSame(style, reusedStyle)
+    }
+
+    @Test
+    fun `Should resolve a new style for different attributes`() {
+        //given
+        val style = StepperStyle.obtain(context, createAttributeSetWithStepperType(TYPE_TABS), 0)
+
+        //when
+        val otherStyle = StepperStyle.obtain(context, createAttributeSetWithStepperType(TYPE_DOTS), 0)
+
+        //then
+        assertNotSame(style, otherStyle)
+        assertEquals(AbstractStepperType.DOTS, otherStyle.typeIdentifier)
+    }
+
+    @Test
+    fun `Should resolve a new style after the cache is cleared`() {
+        //given
+        val style = StepperStyle.obtain(context, createAttributeSetWithStepperType(TYPE_TABS), 0)
+
+        //when
+        StepperStyle.clearCache()
+        val otherStyle = StepperStyle.obtain(context, createAttributeSetWithStepperType(TYPE_TABS), 0)
+
+        //then
+        assertNotSame(style, otherStyle)
+    }
+
+    @Test
+    fun `Should resolve values from attributes`() {
+        //given
+        val attributeSet = Robolectric.buildAttributeSet()
+                .addAttribute(R.attr.ms_stepperType, TYPE_TABS)
+                .addAttribute(R.attr.ms_stepperFeedbackType, "tabs|content_progress")
+                .addAttribute(R.attr.ms_showBackButtonOnFirstStep, "true")
+                .addAttribute(R.attr.ms_nextButtonText, "Forward")
+                .build()
+
+        //when
+        val style = StepperStyle.obtain(context, attributeSet, 0)
+
+        //then
+        assertEquals(AbstractStepperType.TABS, style.typeIdentifier)
+        assertEquals(StepperFeedbackType.TABS or StepperFeedbackType.CONTENT_PROGRESS, style.feedbackTypeMask)
+        assertTrue(style.isShowBackButtonOnFirstStep)
+        assertTrue(style.isShowBottomNavigation)
+        assertEquals("Forward", style.nextButtonText)
+        assertEquals(context.getString(R.string.ms_back), style.backButtonText)
+        assertEquals(R.style.MSDefaultStepperLayoutTheme, style.stepperLayoutTheme)
+    }
+
+    @Test
+    fun `Should use the defaults when there are no attributes`() {
+        //when
+        val style = StepperStyle.obtain(context, null, 0)
+
+        //then
+        assertEquals(AbstractStepperType.PROGRESS_BAR, style.typeIdentifier)
+        assertEquals(StepperFeedbackType.NONE, style.feedbackTypeMask)
+        assertFalse(style.isShowBottomNavigation)
+        assertEquals(0, style.stepperLayoutTheme)
+    }
+
+    @Test
+    fun `Stepper layouts created with the same attributes should share the style`() {
+        //given
+        val stepperLayout = createStepperLayoutInActivity(createAttributeSetWithStepperType(TYPE_TABS))
+
+        //when
+        val otherStepperLayout = StepperLayout(stepperLayout.context, createAttributeSetWithStepperType(TYPE_TABS))
+
+        //then
+        assertSame(stepperLayout.style, otherStepperLayout.style)
+    }
+}
@@ -0,0 +1,87 @@
+package com.stepstone.stepper
+
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotEquals
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RuntimeEnvironment
+
+@RunWith(StepperRobolectricTestRunner::class)
+class VerificationErrorTest {
+
+    companion object {
+        const val ERROR_MESSAGE = "Oooops"
+        const val ERROR_CODE = 7
+    }
+
+    @Test
+    fun `Errors with the same message should be equal`() {
+        //given
+        val error = VerificationError(ERROR_MESSAGE)
+        val otherError = VerificationError(ERROR_MESSAGE)
+
+        //then
+        assertEquals(error, otherError)
+        assertEquals(error.hashCode(), otherError.hashCode())
+    }
+
+    @Test
+    fun `Errors with different codes should not be equal`() {
+        //given
+        val error = VerificationError.Builder().setCode(ERROR_CODE).setErrorMessage(ERROR_MESSAGE).create()
+        val otherError = VerificationError.Builder().setCode(ERROR_CODE + 1).setErrorMessage(ERROR_MESSAGE).create()
+
+        //then
+        assertNotEquals(error, otherError)
+    }
+
+    @Test
+    fun `Errors built with the same values should be equal`() {
+        //when
+        val error = VerificationError.Builder().setCode(ERROR_CODE).setErrorMessage(R.string.ms_verification_timed_out).create()
+        val otherError = VerificationError.Builder().setCode(ERROR_CODE).setErrorMessage(R.string.ms_verification_timed_out).create()
+
+        //then
+        assertEquals(error, otherError)
+        assertEquals(error.hashCode(), otherError.hashCode())
+    }
+
+    @Suppress("DEPRECATION")
+    @Test
+    fun `Deprecated getter should keep returning the plain message`() {
+        //when
+        val error = VerificationError(ERROR_MESSAGE)
+
+        //then
+        assertEquals(ERROR_MESSAGE, error.errorMessage)
+    }
+
+    @Test
+    fun `Should resolve the message resource if there is no plain message`() {
+        //given
+        val error = VerificationError.Builder().setErrorMessage(R.string.ms_verification_timed_out).create()
+
+        //when
+        val errorMessage = error.getErrorMessage(RuntimeEnvironment.application)
+
+        //then
+        assertEquals(RuntimeEnvironment.application.getString(R.string.ms_verification_timed_out), errorMessage)
+    }
+
+    @Test
+    fun `Plain message should take precedence over the message resource`() {
+        //given
+        val error = VerificationError.Builder()
+                .setErrorMessage(R.string.ms_verification_timed_out)
+                .setErrorMessage(ERROR_MESSAGE)
+                .create()
+
+        //when
+        val errorMessage = error.getErrorMessage(RuntimeEnvironment.application)
+
+        //then
+        assertEquals(ERROR_MESSAGE, errorMessage)
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.stepstone.stepper.benchmark
+
+import com.stepstone.stepper.StepperLayout
+import com.stepstone.stepper.StepperLayoutActivity
+import com.stepstone.stepper.adapter.StepAdapter
+import com.stepstone.stepper.test.TYPE_NONE
+import com.stepstone.stepper.test.TYPE_TABS
+import com.stepstone.stepper.test.benchmark.BenchmarkReport
+import com.stepstone.stepper.test.benchmark.REPORTS_DIR
+import com.stepstone.stepper.test.benchmark.assumeBenchmarksEnabled
+import com.stepstone.stepper.test.benchmark.dumpHeap
+import com.stepstone.stepper.test.benchmark.usedHeapAfterGc
+import com.stepstone.stepper.test.createAttributeSetWithStepperType
+import com.stepstone.stepper.test.createStepperLayoutActivity
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import com.stepstone.stepper.test.test_double.SyntheticFragmentStepAdapter
+import com.stepstone.stepper.test.test_double.SyntheticStepAdapter
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.io.File
+
+/**
+ * Measures the heap retained by a [StepperLayout] going through all of the steps
+ * with a fragment-based and a view-based adapter.
+ *
+ * For each adapter strategy and stepper type it reports the heap retained by the layout itself,
+ * after setting the adapter (tabs, indicators and the first pages) and by navigating to the last step,
+ * as well as the retained heap per step. The heap retained by the tabs (including their drawables)
+ * is the difference between the `tabs` and `none` stepper types.
+ * With `-Dstepper.benchmark.heapDump=true` a heap snapshot is written after each run for a detailed analysis.
+ */
+@RunWith(StepperRobolectricTestRunner::class)
+class StepperLayoutRetainedHeapBenchmark {
+
+    companion object {
+        const val STEP_COUNT = 60
+        const val HEAP_DUMP_PROPERTY = "stepper.benchmark.heapDump"
+        const val STRATEGY_FRAGMENTS = "fragments"
+        const val STRATEGY_VIEWS = "views"
+        val STEPPER_TYPES = listOf(TYPE_TABS, TYPE_NONE)
+    }
+
+    lateinit var report: BenchmarkReport
+
+    @Before
+    fun setUp() {
+        assumeBenchmarksEnabled()
+        report = BenchmarkReport("retainedHeap")
+    }
+
+    @Test
+    fun `Should not regress past the baseline in heap retained per step`() {
+        for (strategy in listOf(STRATEGY_FRAGMENTS, STRATEGY_VIEWS)) {
+            val retainedHeapByType = mutableMapOf<String, Long>()
+            for (stepperType in STEPPER_TYPES) {
+                retainedHeapByType[stepperType] = measureRetainedHeap(strategy, stepperType)
+            }
+            report.record("$strategy.tabsKiB", (retainedHeapByType.getValue(TYPE_TABS) - retainedHeapByType.getValue(TYPE_NONE)) / 1024)
+        }
+
+        report.write()
+        report.assertNoRegressions()
+    }
+
+    /**
+     * @return total heap retained by the stepper layout after going through all of the steps
+     */
+    private fun measureRetainedHeap(strategy: String, stepperType: String): Long {
+        //given
+        val key = "$strategy.$stepperType"
+        val attributeSet = createAttributeSetWithStepperType(stepperType)
+        val activity = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_NONE))
+        val usedHeapBefore = usedHeapAfterGc()
+
+        //when
+        val stepperLayout = StepperLayout(activity, attributeSet)
+        activity.setContentView(stepperLayout)
+        val usedHeapAfterConstruction = usedHeapAfterGc()
+
+        stepperLayout.adapter = createAdapter(strategy, activity)
+        stepperLayout.viewTreeObserver.dispatchOnGlobalLayout()
+        val usedHeapAfterSetAdapter = usedHeapAfterGc()
+
+        repeat(STEP_COUNT - 1) { stepperLayout.proceed() }
+        val usedHeapAfterNavigation = usedHeapAfterGc()
+
+        if (java.lang.Boolean.getBoolean(HEAP_DUMP_PROPERTY)) {
+            dumpHeap(File(REPORTS_DIR, "retainedHeap-$key.hprof"))
+        }
+
+        //then
+        assertEquals(STEP_COUNT - 1, stepperLayout.currentStepPosition)
+        report.record("$key.layoutKiB", (usedHeapAfterConstruction - usedHeapBefore) / 1024)
+        report.record("$key.setAdapterKiB", (usedHeapAfterSetAdapter - usedHeapAfterConstruction) / 1024)
+        report.record("$key.navigationKiB", (usedHeapAfterNavigation - usedHeapAfterSetAdapter) / 1024)
+        report.record("$key.perStepBytes", (usedHeapAfterNavigation - usedHeapAfterConstruction) / STEP_COUNT)
+        return usedHeapAfterNavigation - usedHeapBefore
+    }
+
+    private fun createAdapter(strategy: String, activity: StepperLayoutActivity): StepAdapter {
+        return if (strategy == STRATEGY_FRAGMENTS) {
+            SyntheticFragmentStepAdapter(activity.supportFragmentManager, activity, STEP_COUNT)
+        } else {
+            SyntheticStepAdapter(activity, STEP_COUNT)
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.stepstone.stepper.benchmark
+
+import android.app.Activity
+import android.util.AttributeSet
+import com.stepstone.stepper.StepperLayout
+import com.stepstone.stepper.VerificationError
+import com.stepstone.stepper.test.TYPE_DOTS
+import com.stepstone.stepper.test.TYPE_NONE
+import com.stepstone.stepper.test.TYPE_PROGRESS_BAR
+import com.stepstone.stepper.test.TYPE_TABS
+import com.stepstone.stepper.test.benchmark.BenchmarkReport
+import com.stepstone.stepper.test.benchmark.Measurement
+import com.stepstone.stepper.test.benchmark.assumeBenchmarksEnabled
+import com.stepstone.stepper.test.benchmark.measure
+import com.stepstone.stepper.test.createAttributeSetWithStepperType
+import com.stepstone.stepper.test.createStepperLayoutActivity
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import com.stepstone.stepper.test.test_double.SyntheticStepAdapter
+import org.junit.Assert.assertEquals
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Measures how [StepperLayout] scales with the number of steps for each stepper type:
+ * construction, setting the adapter, going through all the steps with [StepperLayout.proceed]
+ * and a storm of [StepperLayout.updateErrorState] calls.
+ * Each phase is reported as the median of repeated runs after warming up.
+ */
+@RunWith(StepperRobolectricTestRunner::class)
+class StepperLayoutScaleBenchmark {
+
+    companion object {
+        val STEPPER_TYPES = listOf(TYPE_DOTS, TYPE_PROGRESS_BAR, TYPE_TABS, TYPE_NONE)
+        val STEP_COUNTS = listOf(10, 100, 1000)
+        const val ERROR_UPDATE_COUNT = 1000
+        const val WARM_UP_COUNT = 2
+        const val MEASURED_COUNT = 5
+    }
+
+    val verificationError = VerificationError("error")
+
+    @Before
+    fun setUp() {
+        assumeBenchmarksEnabled()
+    }
+
+    @Test
+    fun `Should not regress past the baseline when scaling the number of steps`() {
+        val report = BenchmarkReport("scale")
+
+        for (stepperType in STEPPER_TYPES) {
+            for (stepCount in STEP_COUNTS) {
+                val attributeSet = createAttributeSetWithStepperType(stepperType)
+                val activity = createStepperLayoutActivity(attributeSet)
+                // the first runs pay for class loading and JIT compilation so they are not measured
+                repeat(WARM_UP_COUNT) { measurePhases(activity, attributeSet, stepCount) }
+
+                val measurementsByPhase = linkedMapOf<String, MutableList<Measurement>>()
+                repeat(MEASURED_COUNT) {
+                    measurePhases(activity, attributeSet, stepCount).forEach { (phase, measurement) ->
+                        measurementsByPhase.getOrPut(phase) { mutableListOf() }.add(measurement)
+                    }
+                }
+                measurementsByPhase.forEach { (phase, measurements) ->
+                    report.recordMedian("$stepperType.$stepCount.$phase", measurements)
+                }
+            }
+        }
+
+        report.write()
+        report.assertNoRegressions()
+    }
+
+    private fun measurePhases(activity: Activity, attributeSet: AttributeSet, stepCount: Int): Map<String, Measurement> {
+        //given
+        val stepAdapter = SyntheticStepAdapter(activity, stepCount)
+        val measurements = linkedMapOf<String, Measurement>()
+        lateinit var stepperLayout: StepperLayout
+
+        //when
+        measurements["construction"] = measure {
+            stepperLayout = StepperLayout(activity, attributeSet)
+        }
+        activity.setContentView(stepperLayout)
+
+        measurements["setAdapter"] = measure {
+            stepperLayout.adapter = stepAdapter
+            stepperLayout.viewTreeObserver.dispatchOnGlobalLayout()
+        }
+
+        measurements["forwardPass"] = measure {
+            repeat(stepCount - 1) { stepperLayout.proceed() }
+        }
+
+        measurements["errorUpdates"] = measure {
+            for (i in 0 until ERROR_UPDATE_COUNT) {
+                stepperLayout.updateErrorState(if (i % 2 == 0) verificationError else null)
+            }
+        }
+
+        //then
+        assertEquals(stepCount - 1, stepperLayout.currentStepPosition)
+        return measurements
+    }
+}
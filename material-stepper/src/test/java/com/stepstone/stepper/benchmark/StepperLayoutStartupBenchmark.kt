@@ -0,0 +1,115 @@
+package com.stepstone.stepper.benchmark
+
+import android.content.Context
+import android.view.View
+import android.view.ViewGroup
+import com.stepstone.stepper.R
+import com.stepstone.stepper.StepperLayout
+import com.stepstone.stepper.internal.feedback.StepperFeedbackType
+import com.stepstone.stepper.test.TYPE_DOTS
+import com.stepstone.stepper.test.TYPE_NONE
+import com.stepstone.stepper.test.TYPE_PROGRESS_BAR
+import com.stepstone.stepper.test.TYPE_TABS
+import com.stepstone.stepper.test.benchmark.BenchmarkReport
+import com.stepstone.stepper.test.benchmark.assumeBenchmarksEnabled
+import com.stepstone.stepper.test.benchmark.measure
+import com.stepstone.stepper.test.benchmark.percentile
+import com.stepstone.stepper.test.createAttributeSetWithStepperType
+import com.stepstone.stepper.test.createStepperLayoutActivity
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+
+/**
+ * Measures [StepperLayout] construction time and the number of created views
+ * for each stepper type and a set of stepper feedback type combinations,
+ * both from XML attributes and from code.
+ */
+@RunWith(StepperRobolectricTestRunner::class)
+class StepperLayoutStartupBenchmark {
+
+    companion object {
+        val STEPPER_TYPES = listOf(TYPE_DOTS, TYPE_PROGRESS_BAR, TYPE_TABS, TYPE_NONE)
+
+        /**
+         * Feedback type combinations by their attribute values.
+         */
+        val FEEDBACK_TYPES = linkedMapOf(
+                "none" to StepperFeedbackType.NONE,
+                "content_progress" to StepperFeedbackType.CONTENT_PROGRESS,
+                "tabs|content_overlay" to (StepperFeedbackType.TABS or StepperFeedbackType.CONTENT_OVERLAY),
+                "disabled_bottom_navigation|disabled_content_interaction|content_fade" to
+                        (StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION or StepperFeedbackType.DISABLED_CONTENT_INTERACTION or StepperFeedbackType.CONTENT_FADE))
+
+        const val WARM_UP_COUNT = 3
+        const val MEASURED_COUNT = 20
+    }
+
+    lateinit var report: BenchmarkReport
+
+    @Before
+    fun setUp() {
+        assumeBenchmarksEnabled()
+        report = BenchmarkReport("startup")
+    }
+
+    @Test
+    fun `Should not regress past the baseline when constructing StepperLayout`() {
+        val context = createStepperLayoutActivity(createAttributeSetWithStepperType(TYPE_NONE))
+
+        for (stepperType in STEPPER_TYPES) {
+            for ((feedbackTypeName, _) in FEEDBACK_TYPES) {
+                val attributeSet = Robolectric.buildAttributeSet()
+                        .addAttribute(R.attr.ms_stepperType, stepperType)
+                        .addAttribute(R.attr.ms_stepperFeedbackType, feedbackTypeName)
+                        .build()
+                measureConstruction("xml.$stepperType.$feedbackTypeName") { StepperLayout(context, attributeSet) }
+            }
+        }
+
+        for ((feedbackTypeName, feedbackTypeMask) in FEEDBACK_TYPES) {
+            measureConstruction("code.$feedbackTypeName") { createStepperLayoutFromCode(context, feedbackTypeMask) }
+        }
+
+        report.write()
+        report.assertNoRegressions()
+    }
+
+    private fun createStepperLayoutFromCode(context: Context, feedbackTypeMask: Int): StepperLayout {
+        val stepperLayout = StepperLayout(context)
+        stepperLayout.setFeedbackType(feedbackTypeMask)
+        return stepperLayout
+    }
+
+    private fun measureConstruction(key: String, construct: () -> StepperLayout) {
+        repeat(WARM_UP_COUNT) { construct() }
+
+        val wallTimes = mutableListOf<Long>()
+        val allocations = mutableListOf<Long>()
+        lateinit var stepperLayout: StepperLayout
+        repeat(MEASURED_COUNT) {
+            val measurement = measure { stepperLayout = construct() }
+            wallTimes.add(measurement.wallTimeNanos / 1000)
+            allocations.add(measurement.allocatedBytes)
+        }
+
+        report.record("$key.medianWallTimeMicros", percentile(wallTimes, 50))
+        report.record("$key.p95WallTimeMicros", percentile(wallTimes, 95))
+        if (allocations.all { it >= 0 }) {
+            report.record("$key.medianAllocatedKiB", percentile(allocations, 50) / 1024)
+        }
+        report.record("$key.viewCount", countViews(stepperLayout).toLong())
+    }
+
+    private fun countViews(view: View): Int {
+        var count = 1
+        if (view is ViewGroup) {
+            for (i in 0 until view.childCount) {
+                count += countViews(view.getChildAt(i))
+            }
+        }
+        return count
+    }
+}
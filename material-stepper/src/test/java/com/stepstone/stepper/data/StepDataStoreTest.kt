@@ -0,0 +1,105 @@
+package com.stepstone.stepper.data
+
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(StepperRobolectricTestRunner::class)
+class StepDataStoreTest {
+
+    companion object {
+        val FIRST_NAME = StepDataKey<String>("firstName")
+        val LAST_NAME = StepDataKey<String>("lastName")
+        val EMAIL = StepDataKey<String>("email")
+        val FULL_NAME = StepDataKey<String>("fullName")
+    }
+
+    val store = StepDataStore()
+
+    var fullNameComputationCount = 0
+
+    fun setFullNameDerivation() {
+        store.setDerivation(FULL_NAME, StepDataStore.Derivation<String> { reader ->
+            fullNameComputationCount++
+            "${reader.get(FIRST_NAME)} ${reader.get(LAST_NAME)}"
+        })
+    }
+
+    @Test
+    fun `Snapshot should not change after the value was changed`() {
+        //given
+        store.put(FIRST_NAME, "John")
+        val snapshot = store.snapshot()
+
+        //when
+        store.put(FIRST_NAME, "Jane")
+
+        //then
+        assertEquals("John", snapshot.get(FIRST_NAME))
+        assertEquals("Jane", store.get(FIRST_NAME))
+    }
+
+    @Test
+    fun `Should notify only the listeners of the changed key`() {
+        //given
+        val changedKeys = mutableListOf<StepDataKey<*>>()
+        store.addOnValueChangedListener(FIRST_NAME, StepDataStore.OnValueChangedListener { key -> changedKeys.add(key) })
+        store.addOnValueChangedListener(EMAIL, StepDataStore.OnValueChangedListener { key -> changedKeys.add(key) })
+
+        //when
+        store.put(FIRST_NAME, "John")
+        store.put(FIRST_NAME, "John")
+
+        //then
+        assertEquals(listOf<StepDataKey<*>>(FIRST_NAME), changedKeys)
+    }
+
+    @Test
+    fun `Should compute derived value lazily and only recompute it after a dependency changed`() {
+        //given
+        store.put(FIRST_NAME, "John")
+        store.put(LAST_NAME, "Doe")
+        setFullNameDerivation()
+
+        //when
+        store.get(FULL_NAME)
+        store.put(EMAIL, "john@example.com")
+        store.get(FULL_NAME)
+        store.put(LAST_NAME, "Smith")
+        val fullName = store.get(FULL_NAME)
+
+        //then
+        assertEquals("John Smith", fullName)
+        assertEquals(2, fullNameComputationCount)
+    }
+
+    @Test
+    fun `Should notify listeners of derived value when its dependency changed`() {
+        //given
+        setFullNameDerivation()
+        store.get(FULL_NAME)
+        val changedKeys = mutableListOf<StepDataKey<*>>()
+        store.addOnValueChangedListener(FULL_NAME, StepDataStore.OnValueChangedListener { key -> changedKeys.add(key) })
+
+        //when
+        store.put(FIRST_NAME, "John")
+
+        //then
+        assertEquals(listOf<StepDataKey<*>>(FULL_NAME), changedKeys)
+    }
+
+    @Test
+    fun `Should remove value when setting null`() {
+        //given
+        store.put(EMAIL, "john@example.com")
+
+        //when
+        store.put(EMAIL, null)
+
+        //then
+        assertNull(store.get(EMAIL))
+        assertEquals(0, store.snapshot().size())
+    }
+}
@@ -0,0 +1,164 @@
+package com.stepstone.stepper.draft
+
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import org.junit.runner.RunWith
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.io.RandomAccessFile
+import java.util.concurrent.Executor
+
+@RunWith(StepperRobolectricTestRunner::class)
+class StepDraftStoreTest {
+
+    companion object {
+        const val KEY = "name"
+        const val OTHER_KEY = "email"
+    }
+
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    val directExecutor = Executor { command -> command.run() }
+
+    val file: File by lazy { File(temporaryFolder.root, "draft.log") }
+
+    @Test
+    fun `Should restore saved values after reopening`() {
+        //given
+        val store = StepDraftStore.open(file, directExecutor)
+        store.put(0, KEY, "John")
+        store.put(0, KEY, "Jane")
+        store.put(1, OTHER_KEY, "jane@example.com")
+        store.put(1, KEY, "temporary")
+        store.remove(1, KEY)
+        store.flush()
+        store.close()
+
+        //when
+        val reopenedStore = StepDraftStore.open(file, directExecutor)
+
+        //then
+        assertEquals("Jane", reopenedStore.get(0, KEY))
+        assertEquals(mapOf(OTHER_KEY to "jane@example.com"), reopenedStore.getStepData(1))
+    }
+
+    @Test
+    fun `Should ignore incomplete record at the end of the log`() {
+        //given
+        val store = StepDraftStore.open(file, directExecutor)
+        store.put(0, KEY, "John")
+        store.put(0, OTHER_KEY, "john@example.com")
+        store.flush()
+        store.close()
+        val fileSizeBeforeCorruption = file.length()
+        RandomAccessFile(file, "rw").use { it.setLength(fileSizeBeforeCorruption - 3) }
+
+        //when
+        val reopenedStore = StepDraftStore.open(file, directExecutor)
+
+        //then
+        assertEquals("John", reopenedStore.get(0, KEY))
+        assertNull(reopenedStore.get(0, OTHER_KEY))
+        assertTrue(file.length() < fileSizeBeforeCorruption - 3)
+    }
+
+    @Test
+    fun `Should keep current values when compacting the log`() {
+        //given
+        val store = StepDraftStore.open(file, directExecutor)
+
+        //when
+        for (i in 0 until 1000) {
+            store.put(0, KEY, "value $i")
+        }
+        store.put(2, OTHER_KEY, "other")
+        store.flush()
+        store.close()
+
+        //then
+        val reopenedStore = StepDraftStore.open(file, directExecutor)
+        assertEquals("value 999", reopenedStore.get(0, KEY))
+        assertEquals("other", reopenedStore.get(2, OTHER_KEY))
+        val uncompactedLogSize = 1000L * DraftLog.encode(DraftLog.TYPE_PUT, 0, KEY, "value 999").size
+        assertTrue("Log was not compacted", file.length() < uncompactedLogSize / 2)
+    }
+
+    @Test
+    fun `Should keep the old log and append the changes to it if compacting the log fails`() {
+        //given
+        val store = StepDraftStore.open(file, directExecutor)
+        // a non-empty directory in place of the compacted log makes the compaction fail
+        val compactedFile = File(file.path + ".tmp")
+        File(compactedFile, "blocker").apply { parentFile.mkdirs() }.createNewFile()
+
+        //when
+        for (i in 0 until 1000) {
+            store.put(0, KEY, "value $i")
+        }
+        store.put(2, OTHER_KEY, "other")
+        store.flush()
+        store.close()
+
+        //then
+        val reopenedStore = StepDraftStore.open(file, directExecutor)
+        assertEquals("value 999", reopenedStore.get(0, KEY))
+        assertEquals("other", reopenedStore.get(2, OTHER_KEY))
+        assertTrue(compactedFile.isDirectory)
+    }
+
+    @Test
+    fun `Should rewrite the log before appending to it again after a partial write`() {
+        //given
+        var failNextWrite = true
+        val outputFactory = StepDraftStore.OutputFactory { file ->
+            object : FileOutputStream(file, true) {
+                override fun write(b: ByteArray) {
+                    if (failNextWrite) {
+                        failNextWrite = false
+                        write(b, 0, b.size / 2)
+                        throw IOException("No space left on device")
+                    }
+                    super.write(b)
+                }
+            }
+        }
+        val store = StepDraftStore.open(file, directExecutor, outputFactory)
+        store.put(0, KEY, "John")
+
+        //when
+        store.put(0, OTHER_KEY, "john@example.com")
+        store.put(1, KEY, "Jane")
+        store.flush()
+        store.close()
+
+        //then
+        val reopenedStore = StepDraftStore.open(file, directExecutor)
+        assertEquals("John", reopenedStore.get(0, KEY))
+        assertEquals("john@example.com", reopenedStore.get(0, OTHER_KEY))
+        assertEquals("Jane", reopenedStore.get(1, KEY))
+    }
+
+    @Test
+    fun `Should remove all values when clearing the store`() {
+        //given
+        val store = StepDraftStore.open(file, directExecutor)
+        store.put(0, KEY, "John")
+        store.put(1, KEY, "Jane")
+
+        //when
+        store.clear()
+        store.flush()
+
+        //then
+        val reopenedStore = StepDraftStore.open(file, directExecutor)
+        assertTrue(reopenedStore.getStepData(0).isEmpty())
+        assertNull(reopenedStore.get(1, KEY))
+    }
+}
@@ -0,0 +1,95 @@
+package com.stepstone.stepper.internal.feedback
+
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.doReturn
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.stepstone.stepper.R
+import com.stepstone.stepper.StepperLayout
+import com.stepstone.stepper.internal.widget.StepViewPager
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class LazyStepperFeedbackTypeTest {
+
+    companion object {
+        val PROGRESS_MESSAGE = "loading..."
+    }
+
+    val mockPager: StepViewPager = mock {}
+
+    val mockStepperLayout: StepperLayout = mock {
+        on { findViewById(R.id.ms_stepPager) } doReturn mockPager
+    }
+
+    @Test
+    fun `Should not create any feedback types before showing progress`() {
+        //when
+        val feedbackType = LazyStepperFeedbackType(mockStepperLayout, StepperFeedbackType.DISABLED_CONTENT_INTERACTION or StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+
+        //then
+        assertFalse(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_CONTENT_INTERACTION))
+        assertFalse(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION))
+        verify(mockStepperLayout, never()).findViewById(any())
+    }
+
+    @Test
+    fun `Should create selected feedback types when showing progress`() {
+        //given
+        val feedbackType = LazyStepperFeedbackType(mockStepperLayout, StepperFeedbackType.DISABLED_CONTENT_INTERACTION or StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+
+        //when
+        feedbackType.showProgress(PROGRESS_MESSAGE)
+
+        //then
+        assertTrue(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_CONTENT_INTERACTION))
+        assertTrue(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION))
+        assertFalse(feedbackType.isComponentCreated(StepperFeedbackType.TABS))
+        verify(mockPager).setBlockTouchEventsFromChildrenEnabled(true)
+        verify(mockStepperLayout).setNextButtonEnabled(false)
+    }
+
+    @Test
+    fun `Should not create any feedback types for StepperFeedbackType = NONE mask`() {
+        //given
+        val feedbackType = LazyStepperFeedbackType(mockStepperLayout, StepperFeedbackType.NONE or StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+
+        //when
+        feedbackType.showProgress(PROGRESS_MESSAGE)
+
+        //then
+        assertFalse(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION))
+        verify(mockStepperLayout, never()).setNextButtonEnabled(any())
+    }
+
+    @Test
+    fun `Should keep feedback types whose flags did not change when changing the mask`() {
+        //given
+        val feedbackType = LazyStepperFeedbackType(mockStepperLayout, StepperFeedbackType.DISABLED_CONTENT_INTERACTION)
+        feedbackType.showProgress(PROGRESS_MESSAGE)
+        feedbackType.hideProgress()
+
+        //when
+        feedbackType.setFeedbackTypeMask(StepperFeedbackType.DISABLED_CONTENT_INTERACTION or StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+
+        //then
+        assertTrue(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_CONTENT_INTERACTION))
+        assertFalse(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION))
+    }
+
+    @Test
+    fun `Should hide progress of removed feedback types when changing the mask while progress is shown`() {
+        //given
+        val feedbackType = LazyStepperFeedbackType(mockStepperLayout, StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION)
+        feedbackType.showProgress(PROGRESS_MESSAGE)
+
+        //when
+        feedbackType.setFeedbackTypeMask(StepperFeedbackType.NONE)
+
+        //then
+        assertFalse(feedbackType.isComponentCreated(StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION))
+        verify(mockStepperLayout).setNextButtonEnabled(true)
+    }
+}
@@ -6,10 +6,8 @@ import com.nhaarman.mockito_kotlin.doReturn
 import com.nhaarman.mockito_kotlin.mock
 import com.stepstone.stepper.R
 import com.stepstone.stepper.StepperLayout
-import com.stepstone.stepper.test.assertion.StepperFeedbackTypeCompositeAssert.Companion.assertThat
-import org.hamcrest.MatcherAssert
-import org.hamcrest.Matchers
-import org.junit.Assert.assertNotNull
+import org.hamcrest.MatcherAssert.assertThat
+import org.hamcrest.Matchers.instanceOf
 import org.junit.Test
 
 /**
@@ -30,146 +28,93 @@ class StepperFeedbackTypeFactoryTest {
     }
 
     @Test
-    fun `Should create empty composite feedback for empty feedback mask`() {
+    fun `Should create TabsStepperFeedbackType when StepperFeedbackType = TABS provided`() {
         //given
-        val feedbackMask = 0
+        val componentType = StepperFeedbackType.TABS
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
+        val createdType = StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
 
         //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasNoChildComponents()
+        assertThat(createdType, instanceOf(TabsStepperFeedbackType::class.java))
     }
 
     @Test
-    fun `Should create empty composite feedback for StepperFeedbackType = NONE mask`() {
+    fun `Should create ContentProgressStepperFeedbackType when StepperFeedbackType = CONTENT_PROGRESS provided`() {
         //given
-        val feedbackMask = StepperFeedbackType.NONE
+        val componentType = StepperFeedbackType.CONTENT_PROGRESS
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
+        val createdType = StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
 
         //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasNoChildComponents()
+        assertThat(createdType, instanceOf(ContentProgressStepperFeedbackType::class.java))
     }
 
     @Test
-    fun `Created composite feedback type should contain TabsStepperFeedbackType when StepperFeedbackType = TABS mask provided`() {
+    fun `Should create ContentFadeStepperFeedbackType when StepperFeedbackType = CONTENT_FADE provided`() {
         //given
-        val feedbackMask = StepperFeedbackType.TABS
+        val componentType = StepperFeedbackType.CONTENT_FADE
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
+        val createdType = StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
 
         //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(1)
-                .hasChildComponentOf(TabsStepperFeedbackType::class.java)
+        assertThat(createdType, instanceOf(ContentFadeStepperFeedbackType::class.java))
     }
 
     @Test
-    fun `Created composite feedback type should contain ContentProgressStepperFeedbackType when StepperFeedbackType = CONTENT_PROGRESS mask provided`() {
+    fun `Should create ContentOverlayStepperFeedbackType when StepperFeedbackType = CONTENT_OVERLAY provided`() {
         //given
-        val feedbackMask = StepperFeedbackType.CONTENT_PROGRESS
+        val componentType = StepperFeedbackType.CONTENT_OVERLAY
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
+        val createdType = StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
 
         //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(1)
-                .hasChildComponentOf(ContentProgressStepperFeedbackType::class.java)
+        assertThat(createdType, instanceOf(ContentOverlayStepperFeedbackType::class.java))
     }
 
     @Test
-    fun `Created composite feedback type should contain ContentFadeStepperFeedbackType when StepperFeedbackType = CONTENT_FADE mask provided`() {
+    fun `Should create DisabledBottomNavigationStepperFeedbackType when StepperFeedbackType = DISABLED_BOTTOM_NAVIGATION provided`() {
         //given
-        val feedbackMask = StepperFeedbackType.CONTENT_FADE
+        val componentType = StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
+        val createdType = StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
 
         //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(1)
-                .hasChildComponentOf(ContentFadeStepperFeedbackType::class.java)
+        assertThat(createdType, instanceOf(DisabledBottomNavigationStepperFeedbackType::class.java))
     }
 
     @Test
-    fun `Created composite feedback type should contain ContentOverlayStepperFeedbackType when StepperFeedbackType = CONTENT_OVERLAY mask provided`() {
+    fun `Should create DisabledContentInteractionStepperFeedbackType when StepperFeedbackType = DISABLED_CONTENT_INTERACTION provided`() {
         //given
-        val feedbackMask = StepperFeedbackType.CONTENT_OVERLAY
+        val componentType = StepperFeedbackType.DISABLED_CONTENT_INTERACTION
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
+        val createdType = StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
 
         //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(1)
-                .hasChildComponentOf(ContentOverlayStepperFeedbackType::class.java)
+        assertThat(createdType, instanceOf(DisabledContentInteractionStepperFeedbackType::class.java))
     }
 
-    @Test
-    fun `Created composite feedback type should contain DisabledBottomNavigationStepperFeedbackType when StepperFeedbackType = DISABLED_BOTTOM_NAVIGATION mask provided`() {
-        //given
-        val feedbackMask = StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION
-
-        //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
-
-        //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(1)
-                .hasChildComponentOf(DisabledBottomNavigationStepperFeedbackType::class.java)
-    }
-
-    @Test
-    fun `Created composite feedback type should contain DisabledContentInteractionStepperFeedbackType when StepperFeedbackType = DISABLED_CONTENT_INTERACTION mask provided`() {
+    @Test(expected = IllegalArgumentException::class)
+    fun `Should throw an exception when StepperFeedbackType = NONE provided`() {
         //given
-        val feedbackMask = StepperFeedbackType.DISABLED_CONTENT_INTERACTION
+        val componentType = StepperFeedbackType.NONE
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
-
-        //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(1)
-                .hasChildComponentOf(DisabledContentInteractionStepperFeedbackType::class.java)
+        StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
     }
 
-    @Test
-    fun `Created composite feedback type should contain all possible child feedback types when provided`() {
+    @Test(expected = IllegalArgumentException::class)
+    fun `Should throw an exception when several feedback types are provided at once`() {
         //given
-        val feedbackMask = StepperFeedbackType.CONTENT_PROGRESS or StepperFeedbackType.DISABLED_BOTTOM_NAVIGATION or StepperFeedbackType.TABS or StepperFeedbackType.DISABLED_CONTENT_INTERACTION or StepperFeedbackType.CONTENT_FADE or StepperFeedbackType.CONTENT_OVERLAY
+        val componentType = StepperFeedbackType.TABS or StepperFeedbackType.CONTENT_PROGRESS
 
         //when
-        val createdType = StepperFeedbackTypeFactory.createType(feedbackMask, mockStepperLayout)
-
-        //then
-        assertCreatedTypeIsComposite(createdType)
-        assertThat(createdType as StepperFeedbackTypeComposite)
-                .hasXChildComponents(6)
-                .hasChildComponentOf(ContentProgressStepperFeedbackType::class.java)
-                .hasChildComponentOf(ContentFadeStepperFeedbackType::class.java)
-                .hasChildComponentOf(ContentOverlayStepperFeedbackType::class.java)
-                .hasChildComponentOf(DisabledBottomNavigationStepperFeedbackType::class.java)
-                .hasChildComponentOf(DisabledContentInteractionStepperFeedbackType::class.java)
-                .hasChildComponentOf(TabsStepperFeedbackType::class.java)
-    }
-
-    private fun assertCreatedTypeIsComposite(createdType: StepperFeedbackType) {
-        assertNotNull(createdType)
-        MatcherAssert.assertThat(createdType, Matchers.instanceOf(StepperFeedbackTypeComposite::class.java))
+        StepperFeedbackTypeFactory.createComponent(componentType, mockStepperLayout)
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.stepstone.stepper.internal.metrics
+
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.eq
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.stepstone.stepper.StepperMetricsListener
+import org.junit.Test
+
+class NavigationMetricsRecorderTest {
+
+    val mockListener: StepperMetricsListener = mock {}
+
+    val recorder = NavigationMetricsRecorder().apply { setListener(mockListener) }
+
+    @Test
+    fun `Should report the navigation once the position is updated`() {
+        //given
+        recorder.onNavigationStarted(StepperMetricsListener.NAVIGATION_NEXT, 0)
+
+        //when
+        recorder.onUpdateStarted()
+        recorder.onUpdateFinished(1, false)
+
+        //then
+        verify(mockListener).onNavigationMeasured(eq(StepperMetricsListener.NAVIGATION_NEXT), eq(0), eq(1), any(), any(), any(), eq(0L))
+    }
+
+    @Test
+    fun `Should not report a cancelled navigation when the position is updated afterwards`() {
+        //given
+        recorder.onNavigationStarted(StepperMetricsListener.NAVIGATION_NEXT, 0)
+        recorder.onBlockingStarted()
+
+        //when
+        recorder.onNavigationCancelled()
+        recorder.onUpdateStarted()
+        recorder.onUpdateFinished(2, false)
+
+        //then
+        verify(mockListener, never()).onNavigationMeasured(any(), any(), any(), any(), any(), any(), any())
+    }
+
+    @Test
+    fun `Should not report a cancelled navigation once the page transition settles`() {
+        //given
+        recorder.onNavigationStarted(StepperMetricsListener.NAVIGATION_NEXT, 0)
+        recorder.onUpdateStarted()
+        recorder.onUpdateFinished(1, true)
+
+        //when
+        recorder.onNavigationCancelled()
+        recorder.onScrollSettled()
+
+        //then
+        verify(mockListener, never()).onNavigationMeasured(any(), any(), any(), any(), any(), any(), any())
+    }
+}
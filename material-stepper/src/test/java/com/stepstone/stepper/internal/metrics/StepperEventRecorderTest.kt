@@ -0,0 +1,87 @@
+package com.stepstone.stepper.internal.metrics
+
+import com.stepstone.stepper.StepperEventBatch
+import com.stepstone.stepper.StepperEventSink
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.concurrent.Executor
+
+@RunWith(StepperRobolectricTestRunner::class)
+class StepperEventRecorderTest {
+
+    companion object {
+        const val CAPACITY = 4
+        const val ERROR_CODE = 7
+    }
+
+    val pendingTasks = mutableListOf<Runnable>()
+
+    val queueingExecutor = Executor { task -> pendingTasks.add(task) }
+
+    val deliveredEvents = mutableListOf<IntArray>()
+
+    var deliveredDroppedEventCount = 0
+
+    val sink = StepperEventSink { batch: StepperEventBatch ->
+        for (i in 0 until batch.size()) {
+            deliveredEvents.add(intArrayOf(batch.getType(i), batch.getStepPosition(i), batch.getValue(i)))
+        }
+        deliveredDroppedEventCount += batch.droppedEventCount
+    }
+
+    val recorder = StepperEventRecorder(sink, queueingExecutor, CAPACITY)
+
+    @Test
+    fun `Should drain events in order once the buffer is half full`() {
+        //given
+        recorder.record(StepperEventSink.EVENT_STEP_ENTERED, 0, 0)
+        recorder.record(StepperEventSink.EVENT_VERIFICATION_FAILED, 0, ERROR_CODE)
+
+        //when
+        runPendingTasks()
+
+        //then
+        assertEquals(2, deliveredEvents.size)
+        assertTrue(intArrayOf(StepperEventSink.EVENT_STEP_ENTERED, 0, 0) contentEquals deliveredEvents[0])
+        assertTrue(intArrayOf(StepperEventSink.EVENT_VERIFICATION_FAILED, 0, ERROR_CODE) contentEquals deliveredEvents[1])
+    }
+
+    @Test
+    fun `Should not schedule a drain before the buffer is half full unless flushed`() {
+        //given
+        recorder.record(StepperEventSink.EVENT_STEP_ENTERED, 0, 0)
+        assertTrue(pendingTasks.isEmpty())
+
+        //when
+        recorder.flush()
+        runPendingTasks()
+
+        //then
+        assertEquals(1, deliveredEvents.size)
+    }
+
+    @Test
+    fun `Should overwrite the oldest events and report them as dropped if the buffer is full`() {
+        //given
+        for (position in 0 until CAPACITY + 2) {
+            recorder.record(StepperEventSink.EVENT_STEP_ENTERED, position, 0)
+        }
+
+        //when
+        runPendingTasks()
+
+        //then
+        assertEquals(CAPACITY, deliveredEvents.size)
+        assertEquals(2, deliveredEvents[0][1])
+        assertEquals(2, deliveredDroppedEventCount)
+    }
+
+    private fun runPendingTasks() {
+        while (pendingTasks.isNotEmpty()) {
+            pendingTasks.removeAt(0).run()
+        }
+    }
+}
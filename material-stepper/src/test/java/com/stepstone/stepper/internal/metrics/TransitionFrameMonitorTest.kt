@@ -0,0 +1,70 @@
+package com.stepstone.stepper.internal.metrics
+
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.stepstone.stepper.TransitionFrameListener
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RuntimeEnvironment
+import java.util.concurrent.TimeUnit
+
+@RunWith(StepperRobolectricTestRunner::class)
+class TransitionFrameMonitorTest {
+
+    companion object {
+        val FRAME_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / 60
+    }
+
+    val mockListener: TransitionFrameListener = mock {}
+
+    val monitor = TransitionFrameMonitor(RuntimeEnvironment.application, mockListener)
+
+    @Test
+    fun `Should report frame count, dropped frames and the longest frame once the pager is idle`() {
+        //given
+        val startNanos = System.nanoTime()
+        monitor.start(0, 1, false)
+
+        //when
+        monitor.doFrame(startNanos)
+        monitor.doFrame(startNanos + FRAME_INTERVAL_NANOS)
+        monitor.doFrame(startNanos + 4 * FRAME_INTERVAL_NANOS)
+        monitor.onPagerIdle()
+        monitor.doFrame(startNanos + 5 * FRAME_INTERVAL_NANOS)
+
+        //then
+        verify(mockListener).onTransitionMeasured(0, 1, 3, 2, 3 * FRAME_INTERVAL_NANOS)
+    }
+
+    @Test
+    fun `Should not report the transition before the pager is idle`() {
+        //given
+        val startNanos = System.nanoTime()
+        monitor.start(0, 1, false)
+
+        //when
+        monitor.doFrame(startNanos)
+        monitor.doFrame(startNanos + FRAME_INTERVAL_NANOS)
+
+        //then
+        verify(mockListener, never()).onTransitionMeasured(any(), any(), any(), any(), any())
+    }
+
+    @Test
+    fun `Should not report the transition after it was stopped`() {
+        //given
+        val startNanos = System.nanoTime()
+        monitor.start(0, 1, false)
+        monitor.onPagerIdle()
+
+        //when
+        monitor.stop()
+        monitor.doFrame(startNanos + FRAME_INTERVAL_NANOS)
+
+        //then
+        verify(mockListener, never()).onTransitionMeasured(any(), any(), any(), any(), any())
+    }
+}
@@ -0,0 +1,98 @@
+package com.stepstone.stepper.internal.verification
+
+import com.nhaarman.mockito_kotlin.any
+import com.nhaarman.mockito_kotlin.doReturn
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.stepstone.stepper.AsyncStep
+import com.stepstone.stepper.VerificationError
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import java.util.concurrent.Executor
+
+@RunWith(StepperRobolectricTestRunner::class)
+class AllStepsValidatorTest {
+
+    val verificationError = VerificationError("error")
+
+    val validStep: AsyncStep = mock {
+        on { verifyStepAsync() } doReturn null as VerificationError?
+    }
+
+    val invalidStep: AsyncStep = mock {
+        on { verifyStepAsync() } doReturn verificationError
+    }
+
+    val directExecutor = Executor { it.run() }
+
+    val queueingExecutor = AsyncStepVerifierTest.QueueingExecutor()
+
+    val validator = AllStepsValidator()
+
+    @Test
+    fun `Should deliver results of all the steps at once`() {
+        //given
+        val positions = intArrayOf(0, 2)
+        var deliveredPositions: IntArray? = null
+        var deliveredErrors: Array<VerificationError?>? = null
+
+        //when
+        validator.validate(directExecutor, positions, arrayOf(validStep, invalidStep)) { stepPositions, errors ->
+            deliveredPositions = stepPositions
+            deliveredErrors = errors
+        }
+
+        //then
+        assertArrayEquals(positions, deliveredPositions)
+        assertArrayEquals(arrayOf(null, verificationError), deliveredErrors)
+        assertFalse(validator.isValidating)
+    }
+
+    @Test
+    fun `Should be validating until all of the steps are verified`() {
+        //given
+        val mockCallback: AllStepsValidator.Callback = mock {}
+
+        //when
+        validator.validate(queueingExecutor, intArrayOf(0, 1), arrayOf(validStep, invalidStep), mockCallback)
+
+        //then
+        assertTrue(validator.isValidating)
+        verify(mockCallback, never()).onValidated(any(), any())
+    }
+
+    @Test
+    fun `Should deliver empty results immediately if there are no steps to verify`() {
+        //given
+        val mockCallback: AllStepsValidator.Callback = mock {}
+
+        //when
+        validator.validate(queueingExecutor, intArrayOf(), arrayOf<AsyncStep>(), mockCallback)
+
+        //then
+        assertFalse(validator.isValidating)
+        verify(mockCallback).onValidated(any(), any())
+    }
+
+    @Test
+    fun `Should not deliver results after cancelling`() {
+        //given
+        val mockCallback: AllStepsValidator.Callback = mock {}
+        validator.validate(queueingExecutor, intArrayOf(0, 1), arrayOf(validStep, invalidStep), mockCallback)
+
+        //when
+        validator.cancel()
+        queueingExecutor.runAll()
+
+        //then
+        assertFalse(validator.isValidating)
+        verify(validStep, never()).verifyStepAsync()
+        verify(mockCallback, never()).onValidated(any(), any())
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.stepstone.stepper.internal.verification
+
+import com.nhaarman.mockito_kotlin.doReturn
+import com.nhaarman.mockito_kotlin.mock
+import com.nhaarman.mockito_kotlin.never
+import com.nhaarman.mockito_kotlin.verify
+import com.stepstone.stepper.AsyncStep
+import com.stepstone.stepper.VerificationError
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.ArgumentMatchers.any
+import org.robolectric.Robolectric
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
+
+@RunWith(StepperRobolectricTestRunner::class)
+class AsyncStepVerifierTest {
+
+    companion object {
+        const val TIMEOUT_MILLIS = 1000L
+    }
+
+    val verificationError = VerificationError("error")
+
+    val mockStep: AsyncStep = mock {
+        on { verifyStepAsync() } doReturn verificationError
+    }
+
+    val mockCallback: AsyncStepVerifier.Callback = mock {}
+
+    val directExecutor = Executor { it.run() }
+
+    val queueingExecutor = QueueingExecutor()
+
+    @Test
+    fun `Should deliver verification result to the callback`() {
+        //given
+        val verifier = AsyncStepVerifier(directExecutor)
+
+        //when
+        verifier.verify(mockStep, mockCallback)
+
+        //then
+        verify(mockCallback).onVerified(verificationError)
+        assertFalse(verifier.isVerifying)
+    }
+
+    @Test
+    fun `Should be verifying until the result is delivered`() {
+        //given
+        val verifier = AsyncStepVerifier(queueingExecutor)
+
+        //when
+        verifier.verify(mockStep, mockCallback)
+
+        //then
+        assertTrue(verifier.isVerifying)
+        verify(mockCallback, never()).onVerified(any())
+    }
+
+    @Test
+    fun `Should not deliver verification result after cancelling`() {
+        //given
+        val verifier = AsyncStepVerifier(queueingExecutor)
+        verifier.verify(mockStep, mockCallback)
+
+        //when
+        verifier.cancel()
+        queueingExecutor.runAll()
+
+        //then
+        assertFalse(verifier.isVerifying)
+        verify(mockStep, never()).verifyStepAsync()
+        verify(mockCallback, never()).onVerified(any())
+    }
+
+    @Test
+    fun `Should notify about timeout if verification does not finish in time`() {
+        //given
+        val verifier = AsyncStepVerifier(queueingExecutor)
+        verifier.setTimeout(TIMEOUT_MILLIS)
+        verifier.verify(mockStep, mockCallback)
+
+        //when
+        Robolectric.getForegroundThreadScheduler().advanceBy(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+        queueingExecutor.runAll()
+
+        //then
+        assertFalse(verifier.isVerifying)
+        verify(mockCallback).onTimedOut()
+        verify(mockCallback, never()).onVerified(any())
+    }
+
+    class QueueingExecutor : Executor {
+
+        private val tasks = mutableListOf<Runnable>()
+
+        override fun execute(command: Runnable) {
+            tasks.add(command)
+        }
+
+        fun runAll() {
+            tasks.forEach { it.run() }
+            tasks.clear()
+        }
+    }
+
+}
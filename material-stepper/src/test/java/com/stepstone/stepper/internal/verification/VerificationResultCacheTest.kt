@@ -0,0 +1,89 @@
+package com.stepstone.stepper.internal.verification
+
+import com.stepstone.stepper.VerificationError
+import com.stepstone.stepper.test.runner.StepperRobolectricTestRunner
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(StepperRobolectricTestRunner::class)
+class VerificationResultCacheTest {
+
+    companion object {
+        const val STEP_POSITION = 1
+        const val FINGERPRINT = 42L
+        const val CHANGED_FINGERPRINT = 43L
+    }
+
+    val cache = VerificationResultCache()
+
+    @Test
+    fun `Should count a miss if nothing is cached for the step`() {
+        //when
+        val contains = cache.contains(STEP_POSITION, FINGERPRINT)
+
+        //then
+        assertFalse(contains)
+        assertEquals(0, cache.hitCount)
+        assertEquals(1, cache.missCount)
+    }
+
+    @Test
+    fun `Should return cached error and count a hit if fingerprint did not change`() {
+        //given
+        val error = VerificationError("error")
+        cache.put(STEP_POSITION, FINGERPRINT, error)
+
+        //when
+        val contains = cache.contains(STEP_POSITION, FINGERPRINT)
+
+        //then
+        assertTrue(contains)
+        assertSame(error, cache.get(STEP_POSITION))
+        assertEquals(1, cache.hitCount)
+        assertEquals(0, cache.missCount)
+    }
+
+    @Test
+    fun `Should cache successful verification`() {
+        //given
+        cache.put(STEP_POSITION, FINGERPRINT, null)
+
+        //when
+        val contains = cache.contains(STEP_POSITION, FINGERPRINT)
+
+        //then
+        assertTrue(contains)
+        assertNull(cache.get(STEP_POSITION))
+    }
+
+    @Test
+    fun `Should count a miss if fingerprint changed`() {
+        //given
+        cache.put(STEP_POSITION, FINGERPRINT, VerificationError("error"))
+
+        //when
+        val contains = cache.contains(STEP_POSITION, CHANGED_FINGERPRINT)
+
+        //then
+        assertFalse(contains)
+        assertEquals(1, cache.missCount)
+    }
+
+    @Test
+    fun `Should count a miss after clearing`() {
+        //given
+        cache.put(STEP_POSITION, FINGERPRINT, null)
+
+        //when
+        cache.clear()
+
+        //then
+        assertFalse(cache.contains(STEP_POSITION, FINGERPRINT))
+    }
+
+}
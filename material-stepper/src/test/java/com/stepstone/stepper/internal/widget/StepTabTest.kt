@@ -3,6 +3,7 @@ package com.stepstone.stepper.internal.widget
 import android.annotation.SuppressLint
 import android.os.Build
 import android.support.v7.view.ContextThemeWrapper
+import com.nhaarman.mockito_kotlin.any
 import com.nhaarman.mockito_kotlin.whenever
 import com.stepstone.stepper.R
 import com.stepstone.stepper.VerificationError
@@ -167,7 +168,7 @@ class StepTabTest {
     fun `Should show error message instead of the subtitle when changing to Warning state if 'showErrorMessageEnabled' is true and subtitle was provided before`() {
         //given
         tab.setStepSubtitle(SUBTITLE)
-        whenever(mockVerificationError.errorMessage).thenReturn(ERROR_MESSAGE)
+        whenever(mockVerificationError.getErrorMessage(any())).thenReturn(ERROR_MESSAGE)
 
         //when
         tab.updateState(mockVerificationError, false, false, true)
@@ -182,7 +183,7 @@ class StepTabTest {
     @Test
     fun `Should show error message in place of the subtitle when changing to Warning state if 'showErrorMessageEnabled' is true and subtitle was missing before`() {
         //given
-        whenever(mockVerificationError.errorMessage).thenReturn(ERROR_MESSAGE)
+        whenever(mockVerificationError.getErrorMessage(any())).thenReturn(ERROR_MESSAGE)
 
         //when
         tab.updateState(mockVerificationError, false, false, true)
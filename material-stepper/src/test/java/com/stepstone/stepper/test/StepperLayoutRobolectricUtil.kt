@@ -27,10 +27,13 @@ fun createAttributeSetWithStepperType(stepperType: String): AttributeSet {
 }
 
 fun createStepperLayoutInActivity(attributeSet: AttributeSet): StepperLayout {
-    val activity = ActivityController.of(Robolectric.getShadowsAdapter(), StepperLayoutActivity().withStepperLayoutAttributes(attributeSet))
+    return createStepperLayoutActivity(attributeSet).stepperLayout
+}
+
+fun createStepperLayoutActivity(attributeSet: AttributeSet): StepperLayoutActivity {
+    return ActivityController.of(Robolectric.getShadowsAdapter(), StepperLayoutActivity().withStepperLayoutAttributes(attributeSet))
             .setup()
             .get()
-    return activity.stepperLayout
 }
 
 fun createStepperLayoutWithAdapterSetInActivity(attributeSet: AttributeSet): StepperLayout {
@@ -0,0 +1,169 @@
+package com.stepstone.stepper.test.benchmark
+
+import com.sun.management.HotSpotDiagnosticMXBean
+import org.junit.Assert.fail
+import org.junit.Assume.assumeTrue
+import java.io.File
+import java.io.FileOutputStream
+import java.lang.management.ManagementFactory
+import java.util.Properties
+
+/**
+ * Common utilities of the benchmarks run as unit tests.
+ *
+ * Benchmarks are skipped unless the tests are run with `-Dstepper.benchmark=true`.
+ * Results are written to `build/reports/benchmarks` and compared with `benchmarks/baseline.properties` from the test resources.
+ */
+
+const val BENCHMARK_PROPERTY = "stepper.benchmark"
+
+/**
+ * Maximum allowed ratio between a result and its baseline value, `1.5` by default.
+ */
+const val BENCHMARK_THRESHOLD_PROPERTY = "stepper.benchmark.threshold"
+
+const val DEFAULT_REGRESSION_THRESHOLD = 1.5
+
+/**
+ * If `true` the results without a baseline value are not checked, e.g. when recording the baseline for the first time.
+ */
+const val BENCHMARK_ALLOW_MISSING_BASELINE_PROPERTY = "stepper.benchmark.allowMissingBaseline"
+
+const val BASELINE_RESOURCE = "/benchmarks/baseline.properties"
+
+val REPORTS_DIR = File("build/reports/benchmarks")
+
+private const val MAX_GC_RUNS = 10
+
+fun assumeBenchmarksEnabled() {
+    assumeTrue("Benchmarks are run only with -D$BENCHMARK_PROPERTY=true", java.lang.Boolean.getBoolean(BENCHMARK_PROPERTY))
+}
+
+/**
+ * Wall time and the number of bytes allocated by the current thread, -1 if the JVM cannot measure allocations.
+ */
+class Measurement(val wallTimeNanos: Long, val allocatedBytes: Long)
+
+inline fun measure(block: () -> Unit): Measurement {
+    val allocatedBytesBefore = currentThreadAllocatedBytes()
+    val startNanos = System.nanoTime()
+    block()
+    val wallTimeNanos = System.nanoTime() - startNanos
+    val allocatedBytesAfter = currentThreadAllocatedBytes()
+    val allocatedBytes = if (allocatedBytesBefore < 0) -1L else allocatedBytesAfter - allocatedBytesBefore
+    return Measurement(wallTimeNanos, allocatedBytes)
+}
+
+fun currentThreadAllocatedBytes(): Long {
+    val threadMXBean = ManagementFactory.getThreadMXBean()
+    return if (threadMXBean is com.sun.management.ThreadMXBean && threadMXBean.isThreadAllocatedMemorySupported) {
+        threadMXBean.getThreadAllocatedBytes(Thread.currentThread().id)
+    } else {
+        -1L
+    }
+}
+
+/**
+ * Returns the used heap size after running the garbage collector until it no longer shrinks.
+ */
+fun usedHeapAfterGc(): Long {
+    val runtime = Runtime.getRuntime()
+    var usedHeap = Long.MAX_VALUE
+    for (i in 0 until MAX_GC_RUNS) {
+        System.gc()
+        System.runFinalization()
+        val currentUsedHeap = runtime.totalMemory() - runtime.freeMemory()
+        if (currentUsedHeap >= usedHeap) {
+            break
+        }
+        usedHeap = currentUsedHeap
+    }
+    return usedHeap
+}
+
+/**
+ * Writes a snapshot of the live objects on the heap in the HPROF format, e.g. to be analyzed with Eclipse MAT.
+ */
+fun dumpHeap(file: File) {
+    val diagnosticMXBean = ManagementFactory.newPlatformMXBeanProxy(ManagementFactory.getPlatformMBeanServer(),
+            "com.sun.management:type=HotSpotDiagnostic", HotSpotDiagnosticMXBean::class.java)
+    file.parentFile.mkdirs()
+    file.delete()
+    diagnosticMXBean.dumpHeap(file.path, true)
+}
+
+/**
+ * Returns the value at the given percentile using the nearest-rank method.
+ */
+fun percentile(values: List<Long>, percentile: Int): Long {
+    val sorted = values.sorted()
+    val rank = Math.ceil(percentile / 100.0 * sorted.size).toInt()
+    return sorted[Math.max(0, rank - 1)]
+}
+
+/**
+ * Collects the results of a benchmark. Keys are prefixed with the name of the report.
+ */
+class BenchmarkReport(private val name: String) {
+
+    private val results = linkedMapOf<String, Long>()
+
+    fun record(key: String, value: Long) {
+        results["$name.$key"] = value
+    }
+
+    fun record(key: String, measurement: Measurement) {
+        record("$key.wallTimeMicros", measurement.wallTimeNanos / 1000)
+        if (measurement.allocatedBytes >= 0) {
+            record("$key.allocatedKiB", measurement.allocatedBytes / 1024)
+        }
+    }
+
+    /**
+     * Records the median wall time and allocations of repeated measurements.
+     */
+    fun recordMedian(key: String, measurements: List<Measurement>) {
+        record("$key.medianWallTimeMicros", percentile(measurements.map { it.wallTimeNanos / 1000 }, 50))
+        if (measurements.all { it.allocatedBytes >= 0 }) {
+            record("$key.medianAllocatedKiB", percentile(measurements.map { it.allocatedBytes }, 50) / 1024)
+        }
+    }
+
+    /**
+     * Writes the results to `build/reports/benchmarks/<name>.properties` in the format of the baseline file
+     * so that they can be copied there.
+     */
+    fun write(): File {
+        REPORTS_DIR.mkdirs()
+        val file = File(REPORTS_DIR, "$name.properties")
+        val properties = Properties()
+        results.forEach { (key, value) -> properties.setProperty(key, value.toString()) }
+        FileOutputStream(file).use { properties.store(it, "Benchmark results: $name") }
+        return file
+    }
+
+    /**
+     * Fails if any of the results exceeds its baseline value by more than the threshold
+     * or if it has no baseline value, unless `-D$BENCHMARK_ALLOW_MISSING_BASELINE_PROPERTY=true` is set.
+     */
+    fun assertNoRegressions() {
+        val baseline = Properties()
+        BenchmarkReport::class.java.getResourceAsStream(BASELINE_RESOURCE)?.use { baseline.load(it) }
+        val threshold = System.getProperty(BENCHMARK_THRESHOLD_PROPERTY)?.toDouble() ?: DEFAULT_REGRESSION_THRESHOLD
+        val allowMissingBaseline = java.lang.Boolean.getBoolean(BENCHMARK_ALLOW_MISSING_BASELINE_PROPERTY)
+
+        val missingKeys = results.keys.filter { baseline.getProperty(it) == null }
+        if (missingKeys.isNotEmpty() && !allowMissingBaseline) {
+            fail("No baseline values for:\n" + missingKeys.joinToString("\n") +
+                    "\nCopy them from $REPORTS_DIR to $BASELINE_RESOURCE or run with -D$BENCHMARK_ALLOW_MISSING_BASELINE_PROPERTY=true")
+        }
+
+        val regressions = results.mapNotNull { (key, value) ->
+            val baselineValue = baseline.getProperty(key)?.toLong() ?: return@mapNotNull null
+            if (value > baselineValue * threshold) "$key: $value (baseline: $baselineValue)" else null
+        }
+        if (regressions.isNotEmpty()) {
+            fail("Regressions past ${threshold}x the baseline:\n" + regressions.joinToString("\n"))
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.stepstone.stepper.test.test_double
+
+import android.content.Context
+import android.view.View
+import com.stepstone.stepper.BlockingStep
+import com.stepstone.stepper.Step
+import com.stepstone.stepper.StepperLayout
+import com.stepstone.stepper.VerificationError
+
+/**
+ * A view-based adapter whose steps are [BlockingStep]s which keep the 'Next' callbacks instead of finishing the operations,
+ * e.g. as if the server rejected the input.
+ */
+class BlockingStepAdapter(context: Context, stepCount: Int) : ViewStepAdapter(context, stepCount) {
+
+    class PendingBlockingStepView(context: Context) : View(context), BlockingStep {
+
+        val nextClickedCallbacks = mutableListOf<StepperLayout.OnNextClickedCallback>()
+
+        override fun onNextClicked(callback: StepperLayout.OnNextClickedCallback) {
+            nextClickedCallbacks.add(callback)
+        }
+
+        override fun onCompleteClicked(callback: StepperLayout.OnCompleteClickedCallback) {}
+
+        override fun onBackClicked(callback: StepperLayout.OnBackClickedCallback) {
+            callback.goToPrevStep()
+        }
+
+        override fun verifyStep(): VerificationError? = null
+
+        override fun onSelected() {}
+
+        override fun onError(error: VerificationError) {}
+    }
+
+    override fun createStep(position: Int): Step = PendingBlockingStepView(context)
+}
@@ -0,0 +1,42 @@
+package com.stepstone.stepper.test.test_double
+
+import android.content.Context
+import android.view.View
+import com.stepstone.stepper.AsyncStep
+import com.stepstone.stepper.Step
+import com.stepstone.stepper.VerificationError
+
+/**
+ * A view-based adapter whose steps count how many times they were verified and fail the verification with [CountingStepView.error] if set.
+ * If [async] is true the steps are [AsyncStep]s.
+ */
+class CountingStepAdapter(context: Context, stepCount: Int, private val async: Boolean = false) : ViewStepAdapter(context, stepCount) {
+
+    open class CountingStepView(context: Context) : View(context), Step {
+
+        var error: VerificationError? = null
+
+        var verifyStepCount = 0
+
+        override fun verifyStep(): VerificationError? {
+            verifyStepCount++
+            return error
+        }
+
+        override fun onSelected() {}
+
+        override fun onError(error: VerificationError) {}
+    }
+
+    class CountingAsyncStepView(context: Context) : CountingStepView(context), AsyncStep {
+
+        var verifyStepAsyncCount = 0
+
+        override fun verifyStepAsync(): VerificationError? {
+            verifyStepAsyncCount++
+            return error
+        }
+    }
+
+    override fun createStep(position: Int): Step = if (async) CountingAsyncStepView(context) else CountingStepView(context)
+}
@@ -0,0 +1,52 @@
+package com.stepstone.stepper.test.test_double
+
+import android.content.Context
+import android.util.SparseIntArray
+import android.view.View
+import com.stepstone.stepper.PrefetchingStep
+import com.stepstone.stepper.Step
+import com.stepstone.stepper.VerificationError
+import java.util.concurrent.Executor
+
+/**
+ * A view-based adapter whose steps are [PrefetchingStep]s which load their data on the given executor.
+ * It counts how many times a step was created at each position.
+ */
+class PrefetchingStepAdapter(context: Context, stepCount: Int) : ViewStepAdapter(context, stepCount) {
+
+    class PrefetchingStepView(context: Context) : View(context), PrefetchingStep {
+
+        var prefetchExecutor: Executor? = null
+
+        var prefetchCount = 0
+
+        var prefetchCancelledCount = 0
+
+        var dataLoaded = false
+
+        override fun onPrefetch(executor: Executor) {
+            prefetchExecutor = executor
+            prefetchCount++
+            executor.execute { dataLoaded = true }
+        }
+
+        override fun onPrefetchCancelled() {
+            prefetchCancelledCount++
+        }
+
+        override fun verifyStep(): VerificationError? = null
+
+        override fun onSelected() {}
+
+        override fun onError(error: VerificationError) {}
+    }
+
+    private val createdStepCounts = SparseIntArray()
+
+    fun getCreatedStepCount(position: Int) = createdStepCounts.get(position)
+
+    override fun createStep(position: Int): Step {
+        createdStepCounts.put(position, createdStepCounts.get(position) + 1)
+        return PrefetchingStepView(context)
+    }
+}
@@ -0,0 +1,42 @@
+package com.stepstone.stepper.test.test_double
+
+import android.content.Context
+import android.os.Bundle
+import android.support.v4.app.Fragment
+import android.support.v4.app.FragmentManager
+import android.view.LayoutInflater
+import android.view.View
+import android.view.ViewGroup
+import com.stepstone.stepper.Step
+import com.stepstone.stepper.VerificationError
+import com.stepstone.stepper.adapter.AbstractFragmentStepAdapter
+import com.stepstone.stepper.viewmodel.StepViewModel
+
+/**
+ * A fragment-based adapter with any number of steps which always pass the verification.
+ */
+class SyntheticFragmentStepAdapter(fm: FragmentManager, context: Context, private val stepCount: Int) : AbstractFragmentStepAdapter(fm, context) {
+
+    class SyntheticStepFragment : Fragment(), Step {
+
+        override fun onCreateView(inflater: LayoutInflater?, container: ViewGroup?, savedInstanceState: Bundle?): View? {
+            return View(inflater?.context)
+        }
+
+        override fun verifyStep(): VerificationError? = null
+
+        override fun onSelected() {}
+
+        override fun onError(error: VerificationError) {}
+    }
+
+    override fun createStep(position: Int): Step = SyntheticStepFragment()
+
+    override fun getViewModel(position: Int): StepViewModel {
+        return StepViewModel.Builder(context)
+                .setTitle("Step ${position + 1}")
+                .create()
+    }
+
+    override fun getCount() = stepCount
+}
@@ -0,0 +1,30 @@
+package com.stepstone.stepper.test.test_double
+
+import android.content.Context
+import android.view.View
+import com.stepstone.stepper.Step
+import com.stepstone.stepper.VerificationError
+import com.stepstone.stepper.viewmodel.StepViewModel
+
+/**
+ * A view-based adapter with any number of steps which always pass the verification.
+ */
+class SyntheticStepAdapter(context: Context, stepCount: Int) : ViewStepAdapter(context, stepCount) {
+
+    class SyntheticStepView(context: Context) : View(context), Step {
+
+        override fun verifyStep(): VerificationError? = null
+
+        override fun onSelected() {}
+
+        override fun onError(error: VerificationError) {}
+    }
+
+    override fun createStep(position: Int): Step = SyntheticStepView(context)
+
+    override fun getViewModel(position: Int): StepViewModel {
+        return StepViewModel.Builder(context)
+                .setTitle("Step ${position + 1}")
+                .create()
+    }
+}
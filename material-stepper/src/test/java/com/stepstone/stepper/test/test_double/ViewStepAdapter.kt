@@ -0,0 +1,35 @@
+package com.stepstone.stepper.test.test_double
+
+import android.content.Context
+import android.util.SparseArray
+import android.view.View
+import android.view.ViewGroup
+import com.stepstone.stepper.Step
+import com.stepstone.stepper.adapter.AbstractStepAdapter
+
+/**
+ * A view-based adapter with a fixed number of steps. The steps created in [createStep] must be [View]s.
+ * Only the steps currently attached to the pager are kept.
+ */
+abstract class ViewStepAdapter(context: Context, private val stepCount: Int) : AbstractStepAdapter(context) {
+
+    private val pages = SparseArray<Step>()
+
+    override fun getCount() = stepCount
+
+    override fun findStep(position: Int): Step? = pages.get(position)
+
+    override fun instantiateItem(container: ViewGroup, position: Int): Any {
+        val step = createStep(position)
+        pages.put(position, step)
+        container.addView(step as View)
+        return step
+    }
+
+    override fun destroyItem(container: ViewGroup, position: Int, `object`: Any) {
+        pages.remove(position)
+        container.removeView(`object` as View)
+    }
+
+    override fun isViewFromObject(view: View, `object`: Any) = view === `object`
+}
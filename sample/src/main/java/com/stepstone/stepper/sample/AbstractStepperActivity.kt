@@ -73,7 +73,7 @@ abstract class AbstractStepperActivity : AppCompatActivity(), StepperLayout.Step
     }
 
     override fun onError(verificationError: VerificationError) {
-        Toast.makeText(this, "onError! -> " + verificationError.errorMessage, Toast.LENGTH_SHORT).show()
+        Toast.makeText(this, "onError! -> " + verificationError.getErrorMessage(this), Toast.LENGTH_SHORT).show()
     }
 
     override fun onStepSelected(newStepPosition: Int) {
@@ -51,7 +51,7 @@ class NoFragmentsActivity : AppCompatActivity(), StepperLayout.StepperListener,
     }
 
     override fun onError(verificationError: VerificationError) {
-        Toast.makeText(this, "onError! -> " + verificationError.errorMessage, Toast.LENGTH_SHORT).show()
+        Toast.makeText(this, "onError! -> " + verificationError.getErrorMessage(this), Toast.LENGTH_SHORT).show()
     }
 
     override fun onStepSelected(newStepPosition: Int) {